@@ -0,0 +1,69 @@
+package org.matthiaskarl.techassessment.creditservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.matthiaskarl.techassessment.creditservice.mapping.AnnualFrequencyMapper;
+import org.matthiaskarl.techassessment.creditservice.mapping.ChildLoanMapper;
+import org.matthiaskarl.techassessment.creditservice.mapping.CollateralCache;
+import org.matthiaskarl.techassessment.creditservice.mapping.LoanJsonWriter;
+import org.matthiaskarl.techassessment.creditservice.mapping.ParentLoanMapper;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshot;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshotHolder;
+import org.matthiaskarl.techassessment.creditservice.service.DirectLoanWriter;
+import org.matthiaskarl.techassessment.creditservice.service.LoanAssembler;
+import org.matthiaskarl.techassessment.creditservice.service.LoanMetrics;
+import org.matthiaskarl.techassessment.creditservice.service.LoanService;
+
+import java.util.Optional;
+
+/**
+ * Wires the production components by hand, without a Spring context.
+ */
+final class Benchmarks {
+
+    private Benchmarks() {
+    }
+
+    static LoanAssembler loanAssembler() {
+        CollateralCache collateralCache = new CollateralCache();
+        return new LoanAssembler(
+                new ParentLoanMapper(collateralCache),
+                new ChildLoanMapper(new AnnualFrequencyMapper(), collateralCache),
+                loanMetrics()
+        );
+    }
+
+    static LoanService loanService(RepositorySnapshot snapshot) {
+        return new LoanService(
+                snapshotHolder(snapshot),
+                loanAssembler(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                loanMetrics()
+        );
+    }
+
+    static DirectLoanWriter directLoanWriter(RepositorySnapshot snapshot, ObjectMapper objectMapper) {
+        LoanJsonWriter loanJsonWriter = new LoanJsonWriter(new AnnualFrequencyMapper());
+        return new DirectLoanWriter(
+                snapshotHolder(snapshot),
+                loanAssembler(),
+                loanJsonWriter,
+                objectMapper,
+                Optional.empty(),
+                loanMetrics()
+        );
+    }
+
+    // a registry that keeps the meters in memory, so the benchmarks pay the same recording cost as production
+    static LoanMetrics loanMetrics() {
+        return new LoanMetrics(new SimpleMeterRegistry());
+    }
+
+    private static RepositorySnapshotHolder snapshotHolder(RepositorySnapshot snapshot) {
+        return new RepositorySnapshotHolder(snapshot, event -> {
+        });
+    }
+
+}
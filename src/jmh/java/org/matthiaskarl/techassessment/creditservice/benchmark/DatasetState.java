@@ -0,0 +1,52 @@
+package org.matthiaskarl.techassessment.creditservice.benchmark;
+
+import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshot;
+import org.matthiaskarl.techassessment.creditservice.repository.ScaledDataset;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * The scaled dataset shared by all benchmarks, plus a fixed random sequence of owners to look up so that larger
+ * scales also pay for cache misses instead of hitting the same few entries.
+ */
+@State(Scope.Benchmark)
+public class DatasetState {
+
+    public static final int SAMPLES = 1 << 16;
+
+    /**
+     * Number of copies of the bundled test data (50 financing objects, 50 limits, 91 products each).
+     */
+    @Param({"1", "100", "10000", "1000000"})
+    public int scale;
+
+    public RepositorySnapshot snapshot;
+    public long[] sampledOwnerIds;
+    public FinancingObject[] sampledFinancingObjects;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ScaledDataset dataset = ScaledDataset.of(scale);
+        snapshot = dataset.snapshot();
+
+        long[] ownerIds = dataset.ownerIds();
+        SplittableRandom random = new SplittableRandom(42);
+        sampledOwnerIds = new long[SAMPLES];
+        sampledFinancingObjects = new FinancingObject[SAMPLES];
+        List<FinancingObject> financingObjects = new ArrayList<>(snapshot.financingObjects().size());
+        snapshot.financingObjects().forEach(financingObjects::add);
+        for (int i = 0; i < SAMPLES; i++) {
+            sampledOwnerIds[i] = ownerIds[random.nextInt(ownerIds.length)];
+            sampledFinancingObjects[i] = financingObjects.get(random.nextInt(financingObjects.size()));
+        }
+    }
+
+}
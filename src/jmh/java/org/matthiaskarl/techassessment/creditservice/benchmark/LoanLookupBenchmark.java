@@ -0,0 +1,58 @@
+package org.matthiaskarl.techassessment.creditservice.benchmark;
+
+import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
+import org.matthiaskarl.techassessment.creditservice.dto.LoanDto;
+import org.matthiaskarl.techassessment.creditservice.repository.FinancingObjectRepository;
+import org.matthiaskarl.techassessment.creditservice.service.LoanService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoanLookupBenchmark {
+
+    private FinancingObjectRepository financingObjectRepository;
+    private LoanService loanService;
+    private long[] ownerIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp(DatasetState dataset) {
+        financingObjectRepository = dataset.snapshot.financingObjects();
+        loanService = Benchmarks.loanService(dataset.snapshot);
+        ownerIds = dataset.sampledOwnerIds;
+    }
+
+    @Benchmark
+    public List<FinancingObject> findByOwnerId() {
+        return financingObjectRepository.findByOwnerId(ownerIds[nextSample()]);
+    }
+
+    @Benchmark
+    public List<LoanDto> getLoansByUserId() {
+        return loanService.getLoansByUserId(ownerIds[nextSample()]);
+    }
+
+    private int nextSample() {
+        int sample = next;
+        next = (sample + 1) & (DatasetState.SAMPLES - 1);
+        return sample;
+    }
+
+}
@@ -0,0 +1,96 @@
+package org.matthiaskarl.techassessment.creditservice.benchmark;
+
+import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
+import org.matthiaskarl.techassessment.creditservice.domain.Limit;
+import org.matthiaskarl.techassessment.creditservice.domain.Product;
+import org.matthiaskarl.techassessment.creditservice.dto.LoanDto;
+import org.matthiaskarl.techassessment.creditservice.mapping.AnnualFrequencyMapper;
+import org.matthiaskarl.techassessment.creditservice.mapping.ChildLoanMapper;
+import org.matthiaskarl.techassessment.creditservice.mapping.ChildLoanMappingRequest;
+import org.matthiaskarl.techassessment.creditservice.mapping.CollateralCache;
+import org.matthiaskarl.techassessment.creditservice.mapping.ParentLoanMapper;
+import org.matthiaskarl.techassessment.creditservice.mapping.ParentLoanMappingRequest;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoanMappingBenchmark {
+
+    private final CollateralCache collateralCache = new CollateralCache();
+    private final ParentLoanMapper parentLoanMapper = new ParentLoanMapper(collateralCache);
+    private final ChildLoanMapper childLoanMapper = new ChildLoanMapper(new AnnualFrequencyMapper(), collateralCache);
+
+    private ParentLoanMappingRequest[] parentRequests;
+    private ChildLoanMappingRequest[] childRequests;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp(DatasetState dataset) {
+        RepositorySnapshot repositories = dataset.snapshot;
+        parentRequests = new ParentLoanMappingRequest[DatasetState.SAMPLES];
+        childRequests = new ChildLoanMappingRequest[DatasetState.SAMPLES];
+        for (int i = 0; i < DatasetState.SAMPLES; i++) {
+            FinancingObject financingObject = dataset.sampledFinancingObjects[i];
+            Limit limit = repositories.limits().findById(financingObject.limit());
+            List<Product> products = repositories.products().findByIds(financingObject.products());
+            parentRequests[i] = ParentLoanMappingRequest.builder()
+                    .financingObject(financingObject)
+                    .limit(limit)
+                    .products(products)
+                    .build();
+        }
+
+        // child loans only exist for products, so financing objects without any are skipped
+        if (Arrays.stream(parentRequests).allMatch(request -> request.products().isEmpty())) {
+            throw new IllegalStateException("None of the sampled financing objects has products");
+        }
+        for (int i = 0, sample = 0; i < DatasetState.SAMPLES; sample++) {
+            ParentLoanMappingRequest parentRequest = parentRequests[sample % DatasetState.SAMPLES];
+            List<Product> products = parentRequest.products();
+            if (!products.isEmpty()) {
+                childRequests[i] = ChildLoanMappingRequest.builder()
+                        .financingObject(parentRequest.financingObject())
+                        .limit(parentRequest.limit())
+                        .product(products.get(i % products.size()))
+                        .build();
+                i++;
+            }
+        }
+    }
+
+    @Benchmark
+    public LoanDto parentLoanMapper() {
+        return parentLoanMapper.apply(parentRequests[nextSample()]);
+    }
+
+    @Benchmark
+    public LoanDto childLoanMapper() {
+        return childLoanMapper.apply(childRequests[nextSample()]);
+    }
+
+    private int nextSample() {
+        int sample = next;
+        next = (sample + 1) & (DatasetState.SAMPLES - 1);
+        return sample;
+    }
+
+}
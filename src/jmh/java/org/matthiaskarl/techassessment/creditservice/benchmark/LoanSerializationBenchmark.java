@@ -0,0 +1,81 @@
+package org.matthiaskarl.techassessment.creditservice.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.matthiaskarl.techassessment.creditservice.dto.LoanDto;
+import org.matthiaskarl.techassessment.creditservice.service.DirectLoanWriter;
+import org.matthiaskarl.techassessment.creditservice.service.LoanService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes complete loansByUser responses with an object mapper configured like Spring Boot's default one.
+ * {@code endToEnd} additionally assembles the response first, as a request does, and {@code directEndToEnd} writes
+ * the same bytes straight from the repositories through {@link DirectLoanWriter}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoanSerializationBenchmark {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectWriter writer = objectMapper.writerFor(List.class);
+
+    private LoanService loanService;
+    private DirectLoanWriter directLoanWriter;
+    private long[] ownerIds;
+    private List<?>[] responses;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp(DatasetState dataset) {
+        loanService = Benchmarks.loanService(dataset.snapshot);
+        directLoanWriter = Benchmarks.directLoanWriter(dataset.snapshot, objectMapper);
+        ownerIds = dataset.sampledOwnerIds;
+        responses = new List<?>[DatasetState.SAMPLES];
+        for (int i = 0; i < DatasetState.SAMPLES; i++) {
+            responses[i] = loanService.getLoansByUserId(ownerIds[i]);
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(responses[nextSample()]);
+    }
+
+    @Benchmark
+    public byte[] endToEnd() throws JsonProcessingException {
+        List<LoanDto> loans = loanService.getLoansByUserId(ownerIds[nextSample()]);
+        return writer.writeValueAsBytes(loans);
+    }
+
+    @Benchmark
+    public byte[] directEndToEnd() throws IOException {
+        return directLoanWriter.writeLoansByUserIdAsBytes(ownerIds[nextSample()]);
+    }
+
+    private int nextSample() {
+        int sample = next;
+        next = (sample + 1) & (DatasetState.SAMPLES - 1);
+        return sample;
+    }
+
+}
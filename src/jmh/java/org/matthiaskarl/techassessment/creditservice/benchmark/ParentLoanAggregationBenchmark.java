@@ -0,0 +1,125 @@
+package org.matthiaskarl.techassessment.creditservice.benchmark;
+
+import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
+import org.matthiaskarl.techassessment.creditservice.domain.Limit;
+import org.matthiaskarl.techassessment.creditservice.domain.Product;
+import org.matthiaskarl.techassessment.creditservice.dto.LoanDto;
+import org.matthiaskarl.techassessment.creditservice.mapping.CollateralCache;
+import org.matthiaskarl.techassessment.creditservice.mapping.ParentLoanAggregate;
+import org.matthiaskarl.techassessment.creditservice.mapping.ParentLoanMapper;
+import org.matthiaskarl.techassessment.creditservice.mapping.ParentLoanMappingRequest;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositoryUtils;
+import org.matthiaskarl.techassessment.creditservice.tool.TestDataCopies;
+import org.matthiaskarl.techassessment.creditservice.util.EpochDays;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the single-pass {@link ParentLoanAggregate} with the stream pipelines it replaced, one per derived field,
+ * on financing objects with a growing number of products. The products cycle through the bundled test data and every
+ * seventh one has no start date, so the date handling is exercised as well.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParentLoanAggregationBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    public int productsPerFinancingObject;
+
+    private final ParentLoanMapper parentLoanMapper = new ParentLoanMapper(new CollateralCache());
+
+    private List<Product> products;
+    private ParentLoanMappingRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Product> templates = RepositoryUtils.readList(TestDataCopies.PRODUCTS, Product.class);
+        products = new ArrayList<>(productsPerFinancingObject);
+        for (int i = 0; i < productsPerFinancingObject; i++) {
+            Product template = templates.get(i % templates.size());
+            products.add(new Product(
+                    i,
+                    template.name(),
+                    template.type(),
+                    template.amount(),
+                    template.currencyCode(),
+                    template.interestRate(),
+                    i % 7 == 6 ? EpochDays.NONE : template.startDate(),
+                    template.endDate(),
+                    template.productNumber(),
+                    template.defaultSettlementAccountNumber(),
+                    template.interestDue(),
+                    template.isOverdue(),
+                    template.interestPaymentFrequency()
+            ));
+        }
+        FinancingObject financingObject = RepositoryUtils.readList(TestDataCopies.FINANCING_OBJECTS, FinancingObject.class).getFirst();
+        Limit limit = RepositoryUtils.readList(TestDataCopies.LIMITS, Limit.class).stream()
+                .filter(candidate -> candidate.id() == financingObject.limit())
+                .findFirst()
+                .orElseThrow();
+        request = ParentLoanMappingRequest.builder()
+                .financingObject(financingObject)
+                .limit(limit)
+                .products(products)
+                .build();
+    }
+
+    @Benchmark
+    public ParentLoanAggregate singlePass() {
+        return ParentLoanAggregate.of(products);
+    }
+
+    @Benchmark
+    public Object[] streamPerField() {
+        boolean sameCurrency = products.stream().map(Product::currencyCode).distinct().count() == 1;
+        String outstandingAmount = sameCurrency
+                ? products.stream().map(Product::amount).reduce(0L, Long::sum).toString()
+                : "";
+        boolean anyOverdue = products.stream().anyMatch(Product::isOverdue);
+        int minStartDate = products.stream()
+                .mapToInt(Product::startDate)
+                .filter(EpochDays::isPresent)
+                .min()
+                .orElse(EpochDays.NONE);
+        int maxEndDate = products.stream()
+                .mapToInt(Product::endDate)
+                .filter(EpochDays::isPresent)
+                .max()
+                .orElse(EpochDays.NONE);
+        String interestDue = products.stream()
+                .map(Product::interestDue)
+                .min(Comparator.naturalOrder())
+                .map(String::valueOf)
+                .orElse("");
+        String currencyCode = products.stream().map(Product::currencyCode).distinct().count() == 1
+                ? products.getFirst().currencyCode()
+                : "";
+        return new Object[]{currencyCode, outstandingAmount, anyOverdue, minStartDate, maxEndDate, interestDue};
+    }
+
+    @Benchmark
+    public LoanDto parentLoanMapper() {
+        return parentLoanMapper.apply(request);
+    }
+
+}
@@ -0,0 +1,166 @@
+package org.matthiaskarl.techassessment.creditservice.benchmark;
+
+import org.matthiaskarl.techassessment.creditservice.domain.Limit;
+import org.matthiaskarl.techassessment.creditservice.domain.Product;
+import org.matthiaskarl.techassessment.creditservice.repository.LimitsRepository;
+import org.matthiaskarl.techassessment.creditservice.repository.ProductsRepository;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshot;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshotHolder;
+import org.matthiaskarl.techassessment.creditservice.service.LoanAssembler;
+import org.matthiaskarl.techassessment.creditservice.service.LoanService;
+import org.matthiaskarl.techassessment.creditservice.service.ParallelLoanAssembler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load comparison of the request execution modes: a burst of concurrent loansByUser requests is served either by a
+ * platform thread pool sized like Tomcat's default or by one virtual thread per request, with and without parallel
+ * mapping of the financing objects. A blocking backend is simulated by parking for {@code backendLatencyMicros}
+ * on every limit and product lookup, which the service batches into one call per repository and request; with 0
+ * the requests are purely CPU-bound.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestExecutionBenchmark {
+
+    private static final int REQUESTS = 10_000;
+    // server.tomcat.threads.max
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    public String executionMode;
+
+    @Param({"false", "true"})
+    public boolean parallelMapping;
+
+    @Param({"0", "500", "5000"})
+    public long backendLatencyMicros;
+
+    private ExecutorService requestExecutor;
+    private ParallelLoanAssembler parallelLoanAssembler;
+    private LoanService loanService;
+    private long[] ownerIds;
+
+    @Setup(Level.Trial)
+    public void setUp(DatasetState dataset) {
+        requestExecutor = executionMode.equals("virtual")
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        LoanAssembler loanAssembler = Benchmarks.loanAssembler();
+        parallelLoanAssembler = parallelMapping ? new ParallelLoanAssembler(loanAssembler) : null;
+        long latencyNanos = TimeUnit.MICROSECONDS.toNanos(backendLatencyMicros);
+        RepositorySnapshot snapshot = new RepositorySnapshot(
+                dataset.snapshot.financingObjects(),
+                new SlowLimitsRepository(dataset.snapshot.limits(), latencyNanos),
+                new SlowProductsRepository(dataset.snapshot.products(), latencyNanos),
+                dataset.snapshot.files()
+        );
+        RepositorySnapshotHolder holder = new RepositorySnapshotHolder(snapshot, event -> {
+        });
+        loanService = new LoanService(
+                holder,
+                loanAssembler,
+                Optional.empty(),
+                Optional.ofNullable(parallelLoanAssembler),
+                Optional.empty(),
+                Benchmarks.loanMetrics()
+        );
+        ownerIds = dataset.sampledOwnerIds;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        requestExecutor.shutdownNow();
+        if (parallelLoanAssembler != null) {
+            parallelLoanAssembler.close();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public int serveRequests() throws InterruptedException, ExecutionException {
+        List<Future<Integer>> responses = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            long ownerId = ownerIds[i & (DatasetState.SAMPLES - 1)];
+            responses.add(requestExecutor.submit(() -> loanService.getLoansByUserId(ownerId).size()));
+        }
+        int loans = 0;
+        for (Future<Integer> response : responses) {
+            loans += response.get();
+        }
+        return loans;
+    }
+
+    private static void simulateLatency(long latencyNanos) {
+        if (latencyNanos > 0) {
+            LockSupport.parkNanos(latencyNanos);
+        }
+    }
+
+    private record SlowLimitsRepository(LimitsRepository delegate, long latencyNanos) implements LimitsRepository {
+
+        @Override
+        public Limit findById(long id) {
+            simulateLatency(latencyNanos);
+            return delegate.findById(id);
+        }
+
+        @Override
+        public List<Limit> findByIds(long[] ids) {
+            simulateLatency(latencyNanos);
+            return delegate.findByIds(ids);
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+    }
+
+    private record SlowProductsRepository(ProductsRepository delegate, long latencyNanos) implements ProductsRepository {
+
+        @Override
+        public Product findById(long id) {
+            simulateLatency(latencyNanos);
+            return delegate.findById(id);
+        }
+
+        @Override
+        public List<Product> findByIds(long[] ids) {
+            simulateLatency(latencyNanos);
+            return delegate.findByIds(ids);
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+    }
+
+}
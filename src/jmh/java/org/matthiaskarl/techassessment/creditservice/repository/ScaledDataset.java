@@ -0,0 +1,71 @@
+package org.matthiaskarl.techassessment.creditservice.repository;
+
+import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
+import org.matthiaskarl.techassessment.creditservice.domain.Limit;
+import org.matthiaskarl.techassessment.creditservice.domain.Owner;
+import org.matthiaskarl.techassessment.creditservice.domain.Product;
+import org.matthiaskarl.techassessment.creditservice.tool.TestDataCopies;
+import org.matthiaskarl.techassessment.creditservice.util.LongObjectHashMap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-memory repositories built from the bundled test data copied {@code scale} times with the consistent ids of
+ * {@link TestDataCopies}.
+ */
+public final class ScaledDataset {
+
+    private final RepositorySnapshot snapshot;
+    private final long[] ownerIds;
+
+    private ScaledDataset(RepositorySnapshot snapshot, long[] ownerIds) {
+        this.snapshot = snapshot;
+        this.ownerIds = ownerIds;
+    }
+
+    public static ScaledDataset of(int scale) {
+        TestDataCopies copies = TestDataCopies.bundled();
+        List<FinancingObject> financingObjects = new ArrayList<>(Math.multiplyExact(copies.financingObjects().size(), scale));
+        LongObjectHashMap<Limit> limits = new LongObjectHashMap<>();
+        HeapProductStore products = new HeapProductStore();
+        long[] ownerIds = new long[Math.multiplyExact(copies.owners().size(), scale)];
+
+        int owner = 0;
+        for (int copy = 0; copy < scale; copy++) {
+            for (FinancingObject financingObject : copies.financingObjects()) {
+                financingObjects.add(copies.financingObject(financingObject, copy));
+            }
+            for (Limit limit : copies.limits()) {
+                Limit shifted = copies.limit(limit, copy);
+                limits.put(shifted.id(), shifted);
+            }
+            for (Product product : copies.products()) {
+                products.add(copies.product(product, copy));
+            }
+            for (Owner template : copies.owners()) {
+                ownerIds[owner++] = copies.owner(template, copy).id();
+            }
+        }
+
+        RepositorySnapshot snapshot = new RepositorySnapshot(
+                InMemoryFinancingObjectRepository.of(financingObjects),
+                new InMemoryLimitsRepository(limits),
+                new InMemoryProductsRepository(products),
+                new DataFiles(TestDataCopies.FINANCING_OBJECTS, TestDataCopies.LIMITS, TestDataCopies.PRODUCTS)
+        );
+        return new ScaledDataset(snapshot, ownerIds);
+    }
+
+    public RepositorySnapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Every distinct owner id in the dataset, in copy order.
+     */
+    public long[] ownerIds() {
+        return ownerIds;
+    }
+
+}
@@ -2,8 +2,12 @@ package org.matthiaskarl.techassessment.creditservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
-@SpringBootApplication
+// the JDBC backend configures its own DataSource, see JdbcConfiguration
+@SpringBootApplication(exclude = DataSourceAutoConfiguration.class)
+@ConfigurationPropertiesScan
 public class CreditServiceApplication {
 
 	public static void main(String[] args) {
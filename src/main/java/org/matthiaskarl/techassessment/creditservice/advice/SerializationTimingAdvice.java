@@ -0,0 +1,73 @@
+package org.matthiaskarl.techassessment.creditservice.advice;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import lombok.RequiredArgsConstructor;
+import org.matthiaskarl.techassessment.creditservice.controller.LoansController;
+import org.matthiaskarl.techassessment.creditservice.service.LoanMetrics;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.io.IOException;
+
+/**
+ * Records the serialize stage of {@code loansByUser} responses that go through the JSON message converter. The body
+ * is handed to the converter wrapped in a {@link JsonSerializable} that times its own serialization, so content
+ * negotiation and the converter configuration stay Spring's, and no other handler is timed.
+ */
+@RestControllerAdvice(assignableTypes = LoansController.class)
+@RequiredArgsConstructor
+public class SerializationTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final String LOANS_BY_USER = "loansByUser";
+
+    private final LoanMetrics loanMetrics;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.getMethod() != null
+                && LOANS_BY_USER.equals(returnType.getMethod().getName())
+                && MappingJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        return body != null ? new TimedBody(body) : null;
+    }
+
+    private final class TimedBody extends JsonSerializable.Base {
+
+        private final Object body;
+
+        private TimedBody(Object body) {
+            this.body = body;
+        }
+
+        @Override
+        public void serialize(JsonGenerator generator, SerializerProvider serializers) throws IOException {
+            long start = System.nanoTime();
+            serializers.defaultSerializeValue(body, generator);
+            loanMetrics.record(LoanMetrics.Stage.SERIALIZE, start);
+        }
+
+        @Override
+        public void serializeWithType(JsonGenerator generator, SerializerProvider serializers, TypeSerializer typeSerializer)
+                throws IOException {
+            serialize(generator, serializers);
+        }
+    }
+
+}
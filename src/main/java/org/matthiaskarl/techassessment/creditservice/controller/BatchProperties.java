@@ -0,0 +1,10 @@
+package org.matthiaskarl.techassessment.creditservice.controller;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "credit-service.batch")
+public record BatchProperties(
+        @DefaultValue("1000") int maxSize
+) {
+}
@@ -0,0 +1,54 @@
+package org.matthiaskarl.techassessment.creditservice.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.matthiaskarl.techassessment.creditservice.dto.LoanDto;
+import org.matthiaskarl.techassessment.creditservice.service.LoanService;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Predicate;
+
+/**
+ * Writes the loans of the whole portfolio as newline-delimited JSON while they are mapped. The writes block
+ * once the connection's send buffer is full, so a slow client slows down the mapping instead of letting
+ * loans pile up in memory.
+ */
+@Component
+public class LoanExporter {
+
+    private final LoanService loanService;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+
+    public LoanExporter(LoanService loanService, ObjectMapper objectMapper) {
+        this.loanService = loanService;
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writerFor(LoanDto.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public void export(String status, String currencyCode, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            loanService.forEachLoan(filter(status, currencyCode), loan -> {
+                try {
+                    writer.writeValue(generator, loan);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Predicate<LoanDto> filter(String status, String currencyCode) {
+        return loan -> (status == null || status.equals(loan.loanStatus()))
+                && (currencyCode == null || currencyCode.equals(loan.currencyCode()));
+    }
+
+}
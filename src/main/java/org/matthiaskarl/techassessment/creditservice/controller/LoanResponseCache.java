@@ -0,0 +1,204 @@
+package org.matthiaskarl.techassessment.creditservice.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.matthiaskarl.techassessment.creditservice.dto.LoanDto;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositoriesReloadedEvent;
+import org.matthiaskarl.techassessment.creditservice.service.DirectLoanWriter;
+import org.matthiaskarl.techassessment.creditservice.service.LoanMetrics;
+import org.matthiaskarl.techassessment.creditservice.service.LoanService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Already encoded {@code loansByUser} responses, bounded by their total size in bytes and evicted least recently
+ * used first. Hits are copied straight to the servlet output stream without touching Jackson.
+ */
+@Component
+@ConditionalOnProperty(prefix = "credit-service.response-cache", name = "enabled", havingValue = "true")
+public class LoanResponseCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoanResponseCache.class);
+
+    private static final String GZIP = "gzip";
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final LoanService loanService;
+    private final ObjectMapper objectMapper;
+    private final Optional<DirectLoanWriter> directLoanWriter;
+    private final LoanMetrics loanMetrics;
+    private final long maxBytes;
+    private final boolean gzip;
+
+    private final LinkedHashMap<Long, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+    private long generation;
+
+    public LoanResponseCache(LoanService loanService,
+                             ObjectMapper objectMapper,
+                             Optional<DirectLoanWriter> directLoanWriter,
+                             LoanMetrics loanMetrics,
+                             ResponseCacheProperties properties) {
+        this.loanService = loanService;
+        this.objectMapper = objectMapper;
+        this.directLoanWriter = directLoanWriter;
+        this.loanMetrics = loanMetrics;
+        this.maxBytes = properties.maxSize().toBytes();
+        this.gzip = properties.gzip();
+    }
+
+    public void write(long userId, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        CachedResponse cached = get(userId);
+        if (cached == null) {
+            long expectedGeneration = generation();
+            cached = encode(directLoanWriter.isPresent()
+                    ? directLoanWriter.get().writeLoansByUserIdAsBytes(userId)
+                    : serialize(loanService.getLoansByUserId(userId)));
+            put(userId, cached, expectedGeneration);
+        }
+
+        response.setHeader(HttpHeaders.ETAG, cached.etag());
+        if (gzip) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), cached.etag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] body = cached.json();
+        if (cached.gzipped() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+            body = cached.gzipped();
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    @EventListener(RepositoriesReloadedEvent.class)
+    public synchronized void invalidateAll() {
+        entries.clear();
+        totalBytes = 0;
+        generation++;
+        LOGGER.info("Invalidated cached loan responses");
+    }
+
+    private synchronized CachedResponse get(long userId) {
+        return entries.get(userId);
+    }
+
+    private synchronized long generation() {
+        return generation;
+    }
+
+    private synchronized void put(long userId, CachedResponse cached, long expectedGeneration) {
+        // a response computed before an invalidation may carry old data and must not be cached
+        if (generation != expectedGeneration || cached.weight() > maxBytes) {
+            return;
+        }
+        CachedResponse previous = entries.put(userId, cached);
+        totalBytes += cached.weight() - (previous != null ? previous.weight() : 0);
+
+        Iterator<Map.Entry<Long, CachedResponse>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            totalBytes -= eldest.next().getValue().weight();
+            eldest.remove();
+        }
+    }
+
+    private byte[] serialize(List<LoanDto> loans) throws IOException {
+        long start = System.nanoTime();
+        byte[] json = objectMapper.writeValueAsBytes(loans);
+        loanMetrics.record(LoanMetrics.Stage.SERIALIZE, start);
+        return json;
+    }
+
+    private CachedResponse encode(byte[] json) {
+        String etag = '"' + DigestUtils.md5DigestAsHex(json) + '"';
+        byte[] gzipped = gzip ? gzip(json) : null;
+        return new CachedResponse(json, gzipped != null && gzipped.length < json.length ? gzipped : null, etag);
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 32);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            // If-None-Match uses the weak comparison, so W/"x" matches "x"
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.split(";");
+            if (parts[0].trim().equalsIgnoreCase(GZIP)) {
+                return parts.length < 2 || quality(parts[1]) > 0;
+            }
+        }
+        return false;
+    }
+
+    private static double quality(String parameter) {
+        String trimmed = parameter.trim();
+        if (!trimmed.startsWith("q=")) {
+            return 1;
+        }
+        try {
+            return Double.parseDouble(trimmed.substring(2));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private record CachedResponse(byte[] json, byte[] gzipped, String etag) {
+
+        long weight() {
+            return json.length + (gzipped != null ? gzipped.length : 0) + etag.length() + ENTRY_OVERHEAD_BYTES;
+        }
+
+    }
+
+}
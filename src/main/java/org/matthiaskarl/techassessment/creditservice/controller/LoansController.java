@@ -1,15 +1,31 @@
 package org.matthiaskarl.techassessment.creditservice.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.matthiaskarl.techassessment.creditservice.advice.SerializationTimingAdvice;
 import org.matthiaskarl.techassessment.creditservice.dto.LoanDto;
+import org.matthiaskarl.techassessment.creditservice.service.DirectLoanWriter;
 import org.matthiaskarl.techassessment.creditservice.service.LoanService;
+import org.matthiaskarl.techassessment.creditservice.service.ReactiveLoanService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/service/v1")
@@ -17,12 +33,64 @@ import java.util.List;
 public class LoansController {
 
     private final LoanService loanService;
+    private final ReactiveLoanService reactiveLoanService;
+    private final Optional<LoanResponseCache> responseCache;
+    private final BatchProperties batchProperties;
+    private final LoanExporter loanExporter;
+    private final Optional<DirectLoanWriter> directLoanWriter;
 
+    /**
+     * The response cache and the direct JSON writer produce the encoded body themselves and write it to the response;
+     * otherwise the loans go through Spring's message converters, see {@link SerializationTimingAdvice}.
+     */
     @GetMapping("/loansByUser/{userId}")
-    public ResponseEntity<List<LoanDto>> loansByUser(@PathVariable String userId) {
+    public ResponseEntity<List<LoanDto>> loansByUser(@PathVariable String userId,
+                                                     HttpServletRequest request,
+                                                     HttpServletResponse response) throws IOException {
         long parsedUserId = Long.parseLong(userId);
-        List<LoanDto> loans = loanService.getLoansByUserId(parsedUserId);
-        return ResponseEntity.ok(loans);
+        if (responseCache.isPresent()) {
+            responseCache.get().write(parsedUserId, request, response);
+            return null;
+        }
+        if (directLoanWriter.isPresent()) {
+            // encoded completely before anything is sent, so a failure still ends in the error response
+            byte[] body = directLoanWriter.get().writeLoansByUserIdAsBytes(parsedUserId);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+            return null;
+        }
+        return ResponseEntity.ok(loanService.getLoansByUserId(parsedUserId));
+    }
+
+    @GetMapping(
+            value = "/reactive/loansByUser/{userId}",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE}
+    )
+    public Flux<LoanDto> loansByUserReactive(@PathVariable String userId) {
+        return reactiveLoanService.getLoansByUserId(Long.parseLong(userId));
+    }
+
+    @PostMapping("/loansByUsers")
+    public ResponseEntity<Map<Long, List<LoanDto>>> loansByUsers(@RequestBody List<Long> userIds) {
+        if (userIds.size() > batchProperties.maxSize()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + batchProperties.maxSize() + " user ids per request, got " + userIds.size());
+        }
+        if (userIds.contains(null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "User ids must not be null");
+        }
+        Map<Long, List<LoanDto>> loansByUserId = loanService.getLoansByUserIds(userIds);
+        return ResponseEntity.ok(loansByUserId);
+    }
+
+    @GetMapping("/loans/export")
+    public void exportLoans(@RequestParam(required = false) String status,
+                            @RequestParam(required = false) String currencyCode,
+                            HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        loanExporter.export(status, currencyCode, response.getOutputStream());
     }
 
 }
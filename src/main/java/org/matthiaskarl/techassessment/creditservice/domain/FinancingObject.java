@@ -1,12 +1,43 @@
 package org.matthiaskarl.techassessment.creditservice.domain;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
+/**
+ * The product ids are kept as a primitive array, which Jackson reads from and writes to the same JSON array of
+ * numbers as a {@code List<Long>}. Equality compares the array contents, like it would for a list.
+ */
 public record FinancingObject(
         long id,
         List<Owner> owners,
         long limit,
-        List<Long> products,
+        long[] products,
         String status
 ) {
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof FinancingObject other
+                && id == other.id
+                && limit == other.limit
+                && Objects.equals(owners, other.owners)
+                && Arrays.equals(products, other.products)
+                && Objects.equals(status, other.status);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, owners, limit, Arrays.hashCode(products), status);
+    }
+
+    @Override
+    public String toString() {
+        return "FinancingObject[id=" + id
+                + ", owners=" + owners
+                + ", limit=" + limit
+                + ", products=" + Arrays.toString(products)
+                + ", status=" + status + "]";
+    }
+
 }
@@ -7,8 +7,8 @@ public record Product(
         long amount,
         String currencyCode,
         double interestRate,
-        String startDate,
-        String endDate,
+        @SourceDate int startDate,
+        @SourceDate int endDate,
         String productNumber,
         String defaultSettlementAccountNumber,
         double interestDue,
@@ -5,6 +5,6 @@ public record RealSecurity(
         String address,
         long collateralValue,
         String currency,
-        String nextRevaluationDate
+        @SourceDate int nextRevaluationDate
 ) {
 }
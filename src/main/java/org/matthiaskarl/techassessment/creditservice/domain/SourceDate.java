@@ -0,0 +1,21 @@
+package org.matthiaskarl.techassessment.creditservice.domain;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotationsInside;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an {@code int} epoch day that appears as a {@code dd.MM.yyyy} string (or an empty string) in the data files.
+ */
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+@JacksonAnnotationsInside
+@JsonDeserialize(using = SourceDateDeserializer.class)
+@JsonSerialize(using = SourceDateSerializer.class)
+public @interface SourceDate {
+}
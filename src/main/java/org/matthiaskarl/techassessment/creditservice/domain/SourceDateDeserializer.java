@@ -0,0 +1,36 @@
+package org.matthiaskarl.techassessment.creditservice.domain;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import org.matthiaskarl.techassessment.creditservice.util.EpochDays;
+
+import java.io.IOException;
+import java.time.format.DateTimeParseException;
+
+public class SourceDateDeserializer extends StdDeserializer<Integer> {
+
+    public SourceDateDeserializer() {
+        super(Integer.class);
+    }
+
+    @Override
+    public Integer deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            return (Integer) context.handleUnexpectedToken(Integer.class, parser);
+        }
+        String value = parser.getText();
+        try {
+            return EpochDays.parseSource(value);
+        } catch (DateTimeParseException e) {
+            return (Integer) context.handleWeirdStringValue(Integer.class, value, "expected a dd.MM.yyyy date");
+        }
+    }
+
+    @Override
+    public Integer getNullValue(DeserializationContext context) {
+        return EpochDays.NONE;
+    }
+
+}
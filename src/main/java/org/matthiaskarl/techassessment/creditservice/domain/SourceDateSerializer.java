@@ -0,0 +1,21 @@
+package org.matthiaskarl.techassessment.creditservice.domain;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.matthiaskarl.techassessment.creditservice.util.EpochDays;
+
+import java.io.IOException;
+
+public class SourceDateSerializer extends StdSerializer<Integer> {
+
+    public SourceDateSerializer() {
+        super(Integer.class);
+    }
+
+    @Override
+    public void serialize(Integer epochDay, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeString(EpochDays.formatSource(epochDay));
+    }
+
+}
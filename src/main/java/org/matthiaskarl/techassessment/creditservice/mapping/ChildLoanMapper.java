@@ -4,12 +4,11 @@ import lombok.RequiredArgsConstructor;
 import org.matthiaskarl.techassessment.creditservice.domain.*;
 import org.matthiaskarl.techassessment.creditservice.dto.CollateralDto;
 import org.matthiaskarl.techassessment.creditservice.dto.LoanDto;
+import org.matthiaskarl.techassessment.creditservice.util.EpochDays;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 
@@ -17,9 +16,8 @@ import java.util.function.Function;
 @RequiredArgsConstructor
 public class ChildLoanMapper implements Function<ChildLoanMappingRequest, LoanDto> {
 
-    private static final DateTimeFormatter SOURCE_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd.MM.yyyy");
-
     private final AnnualFrequencyMapper annualFrequencyMapper;
+    private final CollateralCache collateralCache;
 
     @Override
     public LoanDto apply(ChildLoanMappingRequest request) {
@@ -31,8 +29,8 @@ public class ChildLoanMapper implements Function<ChildLoanMappingRequest, LoanDt
                 .map(Owner::name)
                 .toList();
 
-        String startDate = StringUtils.hasText(product.startDate()) ? LocalDate.parse(product.startDate(), SOURCE_DATE_TIME_FORMATTER).format(DateTimeFormatter.ISO_DATE) + "T00:00:00.000Z" : "";
-        String endDate = StringUtils.hasText(product.endDate()) ? LocalDate.parse(product.endDate(), SOURCE_DATE_TIME_FORMATTER).format(DateTimeFormatter.ISO_DATE) + "T00:00:00.000Z" : "";
+        String startDate = EpochDays.formatIsoDateTime(product.startDate());
+        String endDate = EpochDays.formatIsoDateTime(product.endDate());
 
         String parentLoanId = String.valueOf(financingObject.id());
         return LoanDto.builder()
@@ -54,7 +52,7 @@ public class ChildLoanMapper implements Function<ChildLoanMappingRequest, LoanDt
                 .defaultSettlementAccountNumber(product.defaultSettlementAccountNumber())
                 .paymentFrequency(null)
                 .interestPaymentFrequency(annualFrequencyMapper.apply(product.interestPaymentFrequency()))
-                .collateral(mapCollaterals(limit))
+                .collateral(collateralCache.forChild(limit, this::mapCollaterals))
                 .build();
     }
 
@@ -66,12 +64,12 @@ public class ChildLoanMapper implements Function<ChildLoanMappingRequest, LoanDt
                     .currentValue(String.valueOf(realSecurity.collateralValue()))
                     .currencyCode(realSecurity.currency())
                     .specification(realSecurity.address())
-                    .nextRevaluationDate(LocalDate.parse(realSecurity.nextRevaluationDate(), SOURCE_DATE_TIME_FORMATTER).format(DateTimeFormatter.ISO_DATE))
+                    .nextRevaluationDate(EpochDays.formatIsoDate(realSecurity.nextRevaluationDate()))
                     .amortisationPaymentAmount(null)
                     .build();
             collaterals.add(collateralDto);
         }
-        return collaterals;
+        return Collections.unmodifiableList(collaterals);
     }
 
 }
@@ -0,0 +1,70 @@
+package org.matthiaskarl.techassessment.creditservice.mapping;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.matthiaskarl.techassessment.creditservice.domain.Limit;
+import org.matthiaskarl.techassessment.creditservice.dto.CollateralDto;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositoriesReloadedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Mapped collateral lists per limit, shared by the parent loan and all child loans of a limit and across requests.
+ * Parent and child loans map collaterals differently, so each has its own cache, bounded to
+ * {@value #MAXIMUM_SIZE} limits. Entries are keyed by limit id and reload generation, and are only used for a
+ * limit equal to the one they were mapped from. Backends that read a new {@link Limit} instance on every lookup
+ * therefore still hit, while a limit whose content changed is mapped again.
+ */
+@Component
+public class CollateralCache {
+
+    static final int MAXIMUM_SIZE = 100_000;
+
+    private final Cache<CollateralKey, CachedCollaterals> parentCollaterals = newCache();
+    private final Cache<CollateralKey, CachedCollaterals> childCollaterals = newCache();
+    private volatile long generation;
+
+    public List<CollateralDto> forParent(Limit limit, Function<Limit, List<CollateralDto>> mapper) {
+        return lookup(parentCollaterals, limit, mapper);
+    }
+
+    public List<CollateralDto> forChild(Limit limit, Function<Limit, List<CollateralDto>> mapper) {
+        return lookup(childCollaterals, limit, mapper);
+    }
+
+    @EventListener(RepositoriesReloadedEvent.class)
+    public void invalidateAll() {
+        generation++;
+        parentCollaterals.invalidateAll();
+        childCollaterals.invalidateAll();
+    }
+
+    private List<CollateralDto> lookup(Cache<CollateralKey, CachedCollaterals> cache,
+                                       Limit limit,
+                                       Function<Limit, List<CollateralDto>> mapper) {
+        CollateralKey key = new CollateralKey(generation, limit.id());
+        CachedCollaterals cached = cache.getIfPresent(key);
+        // equals starts with an identity check, so limits served from the heap are not compared field by field
+        if (cached == null || !cached.limit().equals(limit)) {
+            cached = new CachedCollaterals(limit, mapper.apply(limit));
+            cache.put(key, cached);
+        }
+        return cached.collaterals();
+    }
+
+    private static Cache<CollateralKey, CachedCollaterals> newCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .build();
+    }
+
+    private record CollateralKey(long generation, long limitId) {
+    }
+
+    private record CachedCollaterals(Limit limit, List<CollateralDto> collaterals) {
+    }
+
+}
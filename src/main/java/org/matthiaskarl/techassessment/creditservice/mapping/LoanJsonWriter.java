@@ -0,0 +1,126 @@
+package org.matthiaskarl.techassessment.creditservice.mapping;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import lombok.RequiredArgsConstructor;
+import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
+import org.matthiaskarl.techassessment.creditservice.domain.Limit;
+import org.matthiaskarl.techassessment.creditservice.domain.Owner;
+import org.matthiaskarl.techassessment.creditservice.domain.Product;
+import org.matthiaskarl.techassessment.creditservice.domain.RealSecurity;
+import org.matthiaskarl.techassessment.creditservice.util.EpochDays;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * Writes the parent and child loans of a financing object straight from the domain records to a
+ * {@link JsonGenerator}, without building {@code LoanDto} and {@code CollateralDto} first. The output is byte for
+ * byte what Jackson writes for the DTOs of {@link ParentLoanMapper} and {@link ChildLoanMapper}: same fields in the
+ * same order, same string conversions and nulls. Changes to the mappers must be mirrored here.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoanJsonWriter {
+
+    private final AnnualFrequencyMapper annualFrequencyMapper;
+
+    public void writeLoans(JsonGenerator generator, FinancingObject financingObject, Limit limit,
+                           List<Product> products) throws IOException {
+        writeParent(generator, financingObject, limit, products);
+        for (Product product : products) {
+            writeChild(generator, financingObject, limit, product);
+        }
+    }
+
+    public void writeParent(JsonGenerator generator, FinancingObject financingObject, Limit limit,
+                            List<Product> products) throws IOException {
+        ParentLoanAggregate aggregate = ParentLoanAggregate.of(products);
+        String parentLoanId = String.valueOf(financingObject.id());
+
+        generator.writeStartObject();
+        generator.writeStringField("id", parentLoanId);
+        generator.writeStringField("loanType", "ParentLoan");
+        generator.writeStringField("name", limit.name());
+        generator.writeStringField("contractNumber", limit.contractNumber());
+        generator.writeStringField("loanStatus", financingObject.status());
+        generator.writeStringField("currencyCode", aggregate.currencyCodeText());
+        generator.writeStringField("outstandingAmount", aggregate.outstandingAmountText());
+        generator.writeStringField("creditLimit", String.valueOf(limit.limitAmount()));
+        generator.writeNullField("interestRate");
+        generator.writeStringField("interestDue", aggregate.interestDueText());
+        generator.writeBooleanField("isOverdue", aggregate.anyOverdue());
+        generator.writeStringField("parentLoanId", parentLoanId);
+        generator.writeStringField("startDate", aggregate.startDateText());
+        generator.writeStringField("endDate", aggregate.endDateText());
+        writeBorrowers(generator, financingObject);
+        generator.writeNullField("defaultSettlementAccountNumber");
+        generator.writeStringField("paymentFrequency", String.valueOf(limit.agreedAmortisationFrequency()));
+        generator.writeNullField("interestPaymentFrequency");
+        writeCollaterals(generator, limit, amortisationPaymentAmount(limit));
+        generator.writeEndObject();
+    }
+
+    public void writeChild(JsonGenerator generator, FinancingObject financingObject, Limit limit,
+                           Product product) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", String.valueOf(product.id()));
+        generator.writeStringField("loanType", "ChildLoan");
+        generator.writeStringField("name", product.name());
+        generator.writeStringField("contractNumber", limit.contractNumber());
+        generator.writeStringField("loanStatus", financingObject.status());
+        generator.writeStringField("currencyCode", product.currencyCode());
+        generator.writeStringField("outstandingAmount", String.valueOf(product.amount()));
+        generator.writeStringField("creditLimit", String.valueOf(limit.limitAmount()));
+        generator.writeStringField("interestRate", String.valueOf(product.interestRate()));
+        generator.writeStringField("interestDue", String.valueOf(product.interestDue()));
+        generator.writeBooleanField("isOverdue", product.isOverdue());
+        generator.writeStringField("parentLoanId", String.valueOf(financingObject.id()));
+        generator.writeStringField("startDate", EpochDays.formatIsoDateTime(product.startDate()));
+        generator.writeStringField("endDate", EpochDays.formatIsoDateTime(product.endDate()));
+        writeBorrowers(generator, financingObject);
+        generator.writeStringField("defaultSettlementAccountNumber", product.defaultSettlementAccountNumber());
+        generator.writeNullField("paymentFrequency");
+        generator.writeStringField("interestPaymentFrequency",
+                annualFrequencyMapper.apply(product.interestPaymentFrequency()));
+        writeCollaterals(generator, limit, null);
+        generator.writeEndObject();
+    }
+
+    private static void writeBorrowers(JsonGenerator generator, FinancingObject financingObject) throws IOException {
+        generator.writeArrayFieldStart("borrower");
+        for (Owner owner : financingObject.owners()) {
+            generator.writeString(owner.name());
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writeCollaterals(JsonGenerator generator, Limit limit,
+                                         String amortisationPaymentAmount) throws IOException {
+        generator.writeArrayFieldStart("collateral");
+        for (RealSecurity realSecurity : limit.realSecurities()) {
+            generator.writeStartObject();
+            generator.writeStringField("type", realSecurity.type());
+            generator.writeStringField("currentValue", String.valueOf(realSecurity.collateralValue()));
+            generator.writeStringField("currencyCode", realSecurity.currency());
+            generator.writeStringField("specification", realSecurity.address());
+            generator.writeStringField("nextRevaluationDate",
+                    EpochDays.formatIsoDate(realSecurity.nextRevaluationDate()));
+            generator.writeStringField("amortisationPaymentAmount", amortisationPaymentAmount);
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    private static String amortisationPaymentAmount(Limit limit) {
+        if (limit.realSecurities().isEmpty()) {
+            return null;
+        }
+        return BigDecimal.valueOf(limit.amortisationAmountAnnual())
+                .divide(BigDecimal.valueOf(limit.agreedAmortisationFrequency()), 2, RoundingMode.HALF_UP)
+                .toPlainString();
+    }
+
+}
@@ -0,0 +1,79 @@
+package org.matthiaskarl.techassessment.creditservice.mapping;
+
+import org.matthiaskarl.techassessment.creditservice.domain.Product;
+import org.matthiaskarl.techassessment.creditservice.util.EpochDays;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Everything a parent loan derives from its products, collected in a single pass. The text accessors return what
+ * the parent loan shows, including the empty strings for mixed currencies, missing dates and no products.
+ */
+public record ParentLoanAggregate(
+        boolean sameCurrency,
+        String currencyCode,
+        long outstandingAmount,
+        boolean anyOverdue,
+        int minStartDate,
+        int maxEndDate,
+        boolean hasProducts,
+        double minInterestDue
+) {
+
+    private static final ParentLoanAggregate NO_PRODUCTS =
+            new ParentLoanAggregate(false, null, 0L, false, EpochDays.NONE, EpochDays.NONE, false, 0.0);
+
+    public static ParentLoanAggregate of(List<Product> products) {
+        if (products.isEmpty()) {
+            return NO_PRODUCTS;
+        }
+        Product first = products.getFirst();
+        String currencyCode = first.currencyCode();
+        boolean sameCurrency = true;
+        long outstandingAmount = 0L;
+        boolean anyOverdue = false;
+        int minStartDate = EpochDays.NONE;
+        int maxEndDate = EpochDays.NONE;
+        double minInterestDue = first.interestDue();
+
+        for (Product product : products) {
+            sameCurrency &= Objects.equals(currencyCode, product.currencyCode());
+            outstandingAmount += product.amount();
+            anyOverdue |= product.isOverdue();
+            int startDate = product.startDate();
+            if (EpochDays.isPresent(startDate) && (minStartDate == EpochDays.NONE || startDate < minStartDate)) {
+                minStartDate = startDate;
+            }
+            // NONE is Integer.MIN_VALUE, so any present end date is larger
+            maxEndDate = Math.max(maxEndDate, product.endDate());
+            // Double.compare orders like the Comparator.naturalOrder() of the boxed values
+            if (Double.compare(product.interestDue(), minInterestDue) < 0) {
+                minInterestDue = product.interestDue();
+            }
+        }
+        return new ParentLoanAggregate(sameCurrency, currencyCode, outstandingAmount, anyOverdue,
+                minStartDate, maxEndDate, true, minInterestDue);
+    }
+
+    String currencyCodeText() {
+        return sameCurrency ? currencyCode : "";
+    }
+
+    String outstandingAmountText() {
+        return sameCurrency ? Long.toString(outstandingAmount) : "";
+    }
+
+    String interestDueText() {
+        return hasProducts ? String.valueOf(minInterestDue) : "";
+    }
+
+    String startDateText() {
+        return EpochDays.formatIsoDateTime(minStartDate);
+    }
+
+    String endDateText() {
+        return EpochDays.formatIsoDateTime(maxEndDate);
+    }
+
+}
@@ -4,15 +4,13 @@ import lombok.RequiredArgsConstructor;
 import org.matthiaskarl.techassessment.creditservice.domain.*;
 import org.matthiaskarl.techassessment.creditservice.dto.CollateralDto;
 import org.matthiaskarl.techassessment.creditservice.dto.LoanDto;
+import org.matthiaskarl.techassessment.creditservice.util.EpochDays;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 
@@ -20,7 +18,7 @@ import java.util.function.Function;
 @RequiredArgsConstructor
 public class ParentLoanMapper implements Function<ParentLoanMappingRequest, LoanDto> {
 
-    private static final DateTimeFormatter SOURCE_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+    private final CollateralCache collateralCache;
 
     @Override
     public LoanDto apply(ParentLoanMappingRequest request) {
@@ -28,41 +26,12 @@ public class ParentLoanMapper implements Function<ParentLoanMappingRequest, Loan
         Limit limit = request.limit();
         List<Product> products = request.products();
 
-        String outstandingAmount = haveSameCurrency(products)
-                ? products.stream()
-                .map(Product::amount)
-                .reduce(0L, Long::sum)
-                .toString()
-                : "";
-
-        boolean anyOverdue = products.stream().anyMatch(Product::isOverdue);
-
-        String minStartDate = products.stream()
-                .map(Product::startDate)
-                .filter(StringUtils::hasText)
-                .map(startDate -> LocalDate.parse(startDate, SOURCE_DATE_TIME_FORMATTER))
-                .min(Comparator.naturalOrder())
-                .map(date -> date.format(DateTimeFormatter.ISO_DATE) + "T00:00:00.000Z")
-                .orElse("");
-
-        String maxEndDate = products.stream()
-                .map(Product::endDate)
-                .filter(StringUtils::hasText)
-                .map(endDate -> LocalDate.parse(endDate, SOURCE_DATE_TIME_FORMATTER))
-                .max(Comparator.naturalOrder())
-                .map(date -> date.format(DateTimeFormatter.ISO_DATE) + "T00:00:00.000Z")
-                .orElse("");
+        ParentLoanAggregate aggregate = ParentLoanAggregate.of(products);
 
         List<String> borrowerNames = financingObject.owners().stream()
                 .map(Owner::name)
                 .toList();
 
-        String interestDue = products.stream()
-                .map(Product::interestDue)
-                .min(Comparator.naturalOrder())
-                .map(String::valueOf)
-                .orElse("");
-
         String parentLoanId = String.valueOf(financingObject.id());
         return LoanDto.builder()
                 .id(parentLoanId)
@@ -70,20 +39,20 @@ public class ParentLoanMapper implements Function<ParentLoanMappingRequest, Loan
                 .name(limit.name())
                 .contractNumber(limit.contractNumber())
                 .loanStatus(financingObject.status())
-                .currencyCode(haveSameCurrency(products) ? products.getFirst().currencyCode() : "")
-                .outstandingAmount(outstandingAmount)
+                .currencyCode(aggregate.currencyCodeText())
+                .outstandingAmount(aggregate.outstandingAmountText())
                 .creditLimit(String.valueOf(limit.limitAmount()))
                 .interestRate(null)
-                .interestDue(interestDue)
-                .isOverdue(anyOverdue)
+                .interestDue(aggregate.interestDueText())
+                .isOverdue(aggregate.anyOverdue())
                 .parentLoanId(parentLoanId)
-                .startDate(minStartDate)
-                .endDate(maxEndDate)
+                .startDate(aggregate.startDateText())
+                .endDate(aggregate.endDateText())
                 .borrower(borrowerNames)
                 .defaultSettlementAccountNumber(null)
                 .paymentFrequency(String.valueOf(limit.agreedAmortisationFrequency()))
                 .interestPaymentFrequency(null)
-                .collateral(mapCollaterals(limit))
+                .collateral(collateralCache.forParent(limit, this::mapCollaterals))
                 .build();
     }
 
@@ -95,7 +64,7 @@ public class ParentLoanMapper implements Function<ParentLoanMappingRequest, Loan
                     .currentValue(String.valueOf(realSecurity.collateralValue()))
                     .currencyCode(realSecurity.currency())
                     .specification(realSecurity.address())
-                    .nextRevaluationDate(LocalDate.parse(realSecurity.nextRevaluationDate(), SOURCE_DATE_TIME_FORMATTER).format(DateTimeFormatter.ISO_DATE))
+                    .nextRevaluationDate(EpochDays.formatIsoDate(realSecurity.nextRevaluationDate()))
                     .amortisationPaymentAmount(
                             BigDecimal.valueOf(limit.amortisationAmountAnnual())
                                     .divide(BigDecimal.valueOf(limit.agreedAmortisationFrequency()), 2, RoundingMode.HALF_UP)
@@ -104,11 +73,7 @@ public class ParentLoanMapper implements Function<ParentLoanMappingRequest, Loan
                     .build();
             collaterals.add(collateralDto);
         }
-        return collaterals;
-    }
-
-    private static boolean haveSameCurrency(List<Product> products) {
-        return products.stream().map(Product::currencyCode).distinct().count() == 1;
+        return Collections.unmodifiableList(collaterals);
     }
 
 }
@@ -0,0 +1,156 @@
+package org.matthiaskarl.techassessment.creditservice.reload;
+
+import jakarta.annotation.PreDestroy;
+import org.matthiaskarl.techassessment.creditservice.repository.DataFiles;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositoryLoader;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshot;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshotHolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Watches the configured directory for newer dated extracts and swaps in freshly loaded repositories. Loading runs
+ * on the watcher thread while requests keep being served from the previous snapshot; a file that fails to load
+ * leaves the previous snapshot in place.
+ */
+@Component
+@ConditionalOnProperty(prefix = "credit-service.reload", name = "enabled", havingValue = "true")
+public class DataFileWatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DataFileWatcher.class);
+
+    private static final Comparator<DatedDataFile> NEWEST_FIRST = Comparator.comparing(DatedDataFile::date)
+            .thenComparing(DatedDataFile::fileName)
+            .reversed();
+
+    private final RepositoryLoader repositoryLoader;
+    private final RepositorySnapshotHolder repositorySnapshotHolder;
+    private final Path directory;
+    private final long settleDelayMillis;
+
+    private volatile Thread thread;
+
+    public DataFileWatcher(RepositoryLoader repositoryLoader,
+                           RepositorySnapshotHolder repositorySnapshotHolder,
+                           ReloadProperties properties) {
+        if (properties.directory() == null || !Files.isDirectory(properties.directory())) {
+            throw new IllegalStateException("credit-service.reload.directory must point to an existing directory, but was " + properties.directory());
+        }
+        if (repositorySnapshotHolder.current().files() == null) {
+            throw new IllegalStateException("credit-service.reload requires credit-service.data.backend=in-memory");
+        }
+        this.repositoryLoader = repositoryLoader;
+        this.repositorySnapshotHolder = repositorySnapshotHolder;
+        this.directory = properties.directory().toAbsolutePath();
+        this.settleDelayMillis = properties.settleDelay().toMillis();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        thread = Thread.ofPlatform()
+                .name("data-file-watcher")
+                .daemon(true)
+                .start(this::watch);
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread watcher = thread;
+        if (watcher != null) {
+            watcher.interrupt();
+        }
+    }
+
+    private void watch() {
+        try (WatchService watchService = directory.getFileSystem().newWatchService()) {
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            LOGGER.info("Watching {} for new data files", directory);
+            reloadIfNewer();
+
+            boolean pending = false;
+            while (!Thread.currentThread().isInterrupted()) {
+                // once something changed, wait until the directory has been quiet for the settle delay so
+                // files that are still being written are not picked up half-way
+                WatchKey key = pending ? watchService.poll(settleDelayMillis, TimeUnit.MILLISECONDS) : watchService.take();
+                if (key == null) {
+                    pending = false;
+                    reloadIfNewer();
+                    continue;
+                }
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    pending |= event.kind() == StandardWatchEventKinds.OVERFLOW
+                            || (event.context() instanceof Path path && DatedDataFile.parse(path).isPresent());
+                }
+                if (!key.reset()) {
+                    LOGGER.warn("{} is no longer accessible, stopped watching for new data files", directory);
+                    return;
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            LOGGER.error("Failed to watch {} for new data files", directory, e);
+        }
+    }
+
+    private void reloadIfNewer() {
+        RepositorySnapshot current = repositorySnapshotHolder.current();
+        Map<DatedDataFile.Kind, DatedDataFile> newest = newestFiles();
+
+        DataFiles files = new DataFiles(
+                newerLocation(newest.get(DatedDataFile.Kind.FINANCING_OBJECT), current.files().financingObjects()),
+                newerLocation(newest.get(DatedDataFile.Kind.LIMITS), current.files().limits()),
+                newerLocation(newest.get(DatedDataFile.Kind.PRODUCTS), current.files().products())
+        );
+        if (files.equals(current.files())) {
+            return;
+        }
+
+        LOGGER.info("Reloading repositories from {}", files);
+        try {
+            repositorySnapshotHolder.swap(repositoryLoader.load(files));
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to reload repositories from {}, still serving {}", files, current.files(), e);
+        }
+    }
+
+    private String newerLocation(DatedDataFile candidate, String currentLocation) {
+        if (candidate == null || !candidate.isNewerThan(currentLocation)) {
+            return currentLocation;
+        }
+        return "file:" + directory.resolve(candidate.fileName());
+    }
+
+    private Map<DatedDataFile.Kind, DatedDataFile> newestFiles() {
+        Map<DatedDataFile.Kind, DatedDataFile> newest = new EnumMap<>(DatedDataFile.Kind.class);
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(Files::isRegularFile)
+                    .map(DatedDataFile::parse)
+                    .flatMap(Optional::stream)
+                    .forEach(file -> newest.merge(file.kind(), file, (a, b) -> NEWEST_FIRST.compare(a, b) <= 0 ? a : b));
+        } catch (IOException e) {
+            LOGGER.error("Failed to list {}", directory, e);
+        }
+        return newest;
+    }
+
+}
@@ -0,0 +1,52 @@
+package org.matthiaskarl.techassessment.creditservice.reload;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A data extract named like {@code 20231214_TestData_PRODUCTS.json} (or {@code .snap}): the leading date orders extracts of the same
+ * kind, the trailing suffix tells which repository the file belongs to.
+ */
+record DatedDataFile(
+        Kind kind,
+        LocalDate date,
+        String fileName
+) {
+
+    private static final Pattern FILE_NAME = Pattern.compile("^(\\d{8})_.*_(FINANCING_OBJECT|LIMITS|PRODUCTS)\\.(json|snap)$");
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.BASIC_ISO_DATE;
+
+    enum Kind {
+        FINANCING_OBJECT, LIMITS, PRODUCTS
+    }
+
+    static Optional<DatedDataFile> parse(String location) {
+        String fileName = location.substring(Math.max(location.lastIndexOf('/'), location.lastIndexOf(':')) + 1);
+        Matcher matcher = FILE_NAME.matcher(fileName);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        try {
+            LocalDate date = LocalDate.parse(matcher.group(1), DATE_FORMATTER);
+            return Optional.of(new DatedDataFile(Kind.valueOf(matcher.group(2)), date, fileName));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    static Optional<DatedDataFile> parse(Path path) {
+        return parse(path.getFileName().toString());
+    }
+
+    boolean isNewerThan(String location) {
+        return parse(location)
+                .map(current -> date.isAfter(current.date()) || (date.isEqual(current.date()) && fileName.compareTo(current.fileName()) > 0))
+                .orElse(true);
+    }
+
+}
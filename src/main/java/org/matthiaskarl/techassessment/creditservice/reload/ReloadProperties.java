@@ -0,0 +1,15 @@
+package org.matthiaskarl.techassessment.creditservice.reload;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "credit-service.reload")
+public record ReloadProperties(
+        @DefaultValue("false") boolean enabled,
+        Path directory,
+        @DefaultValue("2s") Duration settleDelay
+) {
+}
@@ -0,0 +1,44 @@
+package org.matthiaskarl.techassessment.creditservice.repository;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.matthiaskarl.techassessment.creditservice.util.StringPool;
+
+import java.io.IOException;
+
+/**
+ * Routes every string value bound from the data files through a {@link StringPool}, so values repeated across
+ * records (currency codes, types, statuses, owner names) share one instance instead of one copy per occurrence.
+ */
+class CanonicalStringsModule extends SimpleModule {
+
+    CanonicalStringsModule(StringPool pool) {
+        super("CanonicalStrings");
+        addDeserializer(String.class, new CanonicalStringDeserializer(pool));
+    }
+
+    private static final class CanonicalStringDeserializer extends StdScalarDeserializer<String> {
+
+        private final StringPool pool;
+
+        private CanonicalStringDeserializer(StringPool pool) {
+            super(String.class);
+            this.pool = pool;
+        }
+
+        @Override
+        public String deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.hasToken(JsonToken.VALUE_STRING)) {
+                // the parser's own buffer, so a pooled value is returned without allocating a String
+                return pool.canonicalize(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            }
+            return pool.canonicalize(StringDeserializer.instance.deserialize(parser, context));
+        }
+
+    }
+
+}
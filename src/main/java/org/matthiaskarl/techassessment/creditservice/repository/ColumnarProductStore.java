@@ -0,0 +1,138 @@
+package org.matthiaskarl.techassessment.creditservice.repository;
+
+import org.matthiaskarl.techassessment.creditservice.domain.Product;
+import org.matthiaskarl.techassessment.creditservice.util.LongIntHashMap;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Products stored column by column in primitive arrays, so tens of millions of products are a few dozen large
+ * arrays for the garbage collector instead of tens of millions of records and strings. Columns with few distinct
+ * values hold references into a dictionary in which every distinct value is stored once. Product and settlement
+ * account numbers differ from product to product and are kept as plain string columns.
+ */
+class ColumnarProductStore implements ProductStore {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final LongIntHashMap rowById = new LongIntHashMap(INITIAL_CAPACITY);
+    private Map<String, Integer> dictionaryIndex = new HashMap<>();
+    private String[] dictionary = new String[INITIAL_CAPACITY];
+    private int dictionarySize;
+
+    private int rows;
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private long[] amounts = new long[INITIAL_CAPACITY];
+    private double[] interestRates = new double[INITIAL_CAPACITY];
+    private double[] interestDues = new double[INITIAL_CAPACITY];
+    private int[] interestPaymentFrequencies = new int[INITIAL_CAPACITY];
+    private final BitSet overdue = new BitSet();
+    private int[] names = new int[INITIAL_CAPACITY];
+    private int[] types = new int[INITIAL_CAPACITY];
+    private int[] currencyCodes = new int[INITIAL_CAPACITY];
+    private int[] startDates = new int[INITIAL_CAPACITY];
+    private int[] endDates = new int[INITIAL_CAPACITY];
+    private String[] productNumbers = new String[INITIAL_CAPACITY];
+    private String[] defaultSettlementAccountNumbers = new String[INITIAL_CAPACITY];
+
+    void add(Product product) {
+        if (rowById.put(product.id(), rows) != LongIntHashMap.MISSING) {
+            throw new IllegalStateException("Duplicate product id " + product.id());
+        }
+        if (rows == ids.length) {
+            resize(rows * 2);
+        }
+        int row = rows++;
+        ids[row] = product.id();
+        amounts[row] = product.amount();
+        interestRates[row] = product.interestRate();
+        interestDues[row] = product.interestDue();
+        interestPaymentFrequencies[row] = product.interestPaymentFrequency();
+        overdue.set(row, product.isOverdue());
+        names[row] = intern(product.name());
+        types[row] = intern(product.type());
+        currencyCodes[row] = intern(product.currencyCode());
+        startDates[row] = product.startDate();
+        endDates[row] = product.endDate();
+        productNumbers[row] = product.productNumber();
+        defaultSettlementAccountNumbers[row] = product.defaultSettlementAccountNumber();
+    }
+
+    /**
+     * Trims all columns to their final size and drops the structures only needed while adding rows. No rows can be
+     * added afterwards.
+     */
+    ColumnarProductStore seal() {
+        resize(rows);
+        dictionary = Arrays.copyOf(dictionary, dictionarySize);
+        dictionaryIndex = null;
+        return this;
+    }
+
+    @Override
+    public Product findById(long id) {
+        int row = rowById.get(id);
+        if (row == LongIntHashMap.MISSING) {
+            return null;
+        }
+        return new Product(
+                ids[row],
+                string(names[row]),
+                string(types[row]),
+                amounts[row],
+                string(currencyCodes[row]),
+                interestRates[row],
+                startDates[row],
+                endDates[row],
+                productNumbers[row],
+                defaultSettlementAccountNumbers[row],
+                interestDues[row],
+                overdue.get(row),
+                interestPaymentFrequencies[row]
+        );
+    }
+
+    @Override
+    public int size() {
+        return rows;
+    }
+
+    private int intern(String value) {
+        if (value == null) {
+            return -1;
+        }
+        Integer reference = dictionaryIndex.get(value);
+        if (reference != null) {
+            return reference;
+        }
+        if (dictionarySize == dictionary.length) {
+            dictionary = Arrays.copyOf(dictionary, dictionarySize * 2);
+        }
+        dictionary[dictionarySize] = value;
+        dictionaryIndex.put(value, dictionarySize);
+        return dictionarySize++;
+    }
+
+    private String string(int reference) {
+        return reference < 0 ? null : dictionary[reference];
+    }
+
+    private void resize(int capacity) {
+        ids = Arrays.copyOf(ids, capacity);
+        amounts = Arrays.copyOf(amounts, capacity);
+        interestRates = Arrays.copyOf(interestRates, capacity);
+        interestDues = Arrays.copyOf(interestDues, capacity);
+        interestPaymentFrequencies = Arrays.copyOf(interestPaymentFrequencies, capacity);
+        names = Arrays.copyOf(names, capacity);
+        types = Arrays.copyOf(types, capacity);
+        currencyCodes = Arrays.copyOf(currencyCodes, capacity);
+        startDates = Arrays.copyOf(startDates, capacity);
+        endDates = Arrays.copyOf(endDates, capacity);
+        productNumbers = Arrays.copyOf(productNumbers, capacity);
+        defaultSettlementAccountNumbers = Arrays.copyOf(defaultSettlementAccountNumbers, capacity);
+    }
+
+}
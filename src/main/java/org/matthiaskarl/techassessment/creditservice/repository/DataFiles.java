@@ -0,0 +1,13 @@
+package org.matthiaskarl.techassessment.creditservice.repository;
+
+public record DataFiles(
+        String financingObjects,
+        String limits,
+        String products
+) {
+
+    public static DataFiles of(DataProperties properties) {
+        return new DataFiles(properties.financingObjects(), properties.limits(), properties.products());
+    }
+
+}
@@ -0,0 +1,15 @@
+package org.matthiaskarl.techassessment.creditservice.repository;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "credit-service.data")
+public record DataProperties(
+        @DefaultValue("in-memory") RepositoryBackend backend,
+        @DefaultValue("classpath:20231210_TestData_FINANCING_OBJECT.json") String financingObjects,
+        @DefaultValue("classpath:20231214_TestData_LIMITS.json") String limits,
+        @DefaultValue("classpath:20231214_TestData_PRODUCTS.json") String products,
+        @DefaultValue("3") int loaderThreads,
+        @DefaultValue("heap") ProductStorage productsStorage
+) {
+}
@@ -1,22 +1,30 @@
 package org.matthiaskarl.techassessment.creditservice.repository;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
-import org.springframework.stereotype.Repository;
+import org.matthiaskarl.techassessment.creditservice.util.LongObjectHashMap;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
-@Repository
-public class FinancingObjectRepository {
+public interface FinancingObjectRepository {
 
-    private static final String PATH = "20231210_TestData_FINANCING_OBJECT.json";
+    /**
+     * @return the financing objects of the owner in extract order, each one once even if the owner is listed twice
+     */
+    List<FinancingObject> findByOwnerId(long ownerId);
 
-    private final List<FinancingObject> data = RepositoryUtils.read(PATH, new TypeReference<>() {
-    });
-
-    public List<FinancingObject> findByOwnerId(long ownerId) {
-        return data.stream()
-                .filter(fo -> fo.owners().stream().anyMatch(owner -> owner.id() == ownerId))
-                .toList();
+    default CompletableFuture<List<FinancingObject>> findByOwnerIdAsync(long ownerId) {
+        return CompletableFuture.completedFuture(findByOwnerId(ownerId));
     }
+
+    /**
+     * Hands every financing object to the action in extract order, without requiring all of them in memory.
+     */
+    void forEach(Consumer<? super FinancingObject> action);
+
+    void forEachOwner(LongObjectHashMap.LongObjectConsumer<List<FinancingObject>> action);
+
+    int size();
+
 }
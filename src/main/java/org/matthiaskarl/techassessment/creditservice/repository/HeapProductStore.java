@@ -0,0 +1,27 @@
+package org.matthiaskarl.techassessment.creditservice.repository;
+
+import org.matthiaskarl.techassessment.creditservice.domain.Product;
+
+import org.matthiaskarl.techassessment.creditservice.util.LongObjectHashMap;
+
+class HeapProductStore implements ProductStore {
+
+    private final LongObjectHashMap<Product> byId = new LongObjectHashMap<>();
+
+    void add(Product product) {
+        if (byId.put(product.id(), product) != null) {
+            throw new IllegalStateException("Duplicate product id " + product.id());
+        }
+    }
+
+    @Override
+    public Product findById(long id) {
+        return byId.get(id);
+    }
+
+    @Override
+    public int size() {
+        return byId.size();
+    }
+
+}
@@ -0,0 +1,71 @@
+package org.matthiaskarl.techassessment.creditservice.repository;
+
+import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
+import org.matthiaskarl.techassessment.creditservice.domain.Owner;
+import org.matthiaskarl.techassessment.creditservice.util.LongObjectHashMap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class InMemoryFinancingObjectRepository implements FinancingObjectRepository {
+
+    private final List<FinancingObject> all;
+    private final LongObjectHashMap<List<FinancingObject>> byOwnerId;
+
+    InMemoryFinancingObjectRepository(List<FinancingObject> all, LongObjectHashMap<List<FinancingObject>> byOwnerId) {
+        this.all = all;
+        this.byOwnerId = byOwnerId;
+    }
+
+    public static InMemoryFinancingObjectRepository load(String location) {
+        List<FinancingObject> all = new ArrayList<>();
+        RepositoryUtils.stream(location, FinancingObject.class, all::add);
+        return of(all);
+    }
+
+    static InMemoryFinancingObjectRepository of(List<FinancingObject> all) {
+        LongObjectHashMap<List<FinancingObject>> index = new LongObjectHashMap<>();
+        for (FinancingObject financingObject : all) {
+            indexByOwnerId(index, financingObject);
+        }
+        index.replaceAll(List::copyOf);
+        return new InMemoryFinancingObjectRepository(Collections.unmodifiableList(all), index);
+    }
+
+    @Override
+    public List<FinancingObject> findByOwnerId(long ownerId) {
+        List<FinancingObject> financingObjects = byOwnerId.get(ownerId);
+        return financingObjects != null ? financingObjects : List.of();
+    }
+
+    public List<FinancingObject> findAll() {
+        return all;
+    }
+
+    @Override
+    public void forEach(Consumer<? super FinancingObject> action) {
+        all.forEach(action);
+    }
+
+    @Override
+    public void forEachOwner(LongObjectHashMap.LongObjectConsumer<List<FinancingObject>> action) {
+        byOwnerId.forEach(action);
+    }
+
+    @Override
+    public int size() {
+        return all.size();
+    }
+
+    private static void indexByOwnerId(LongObjectHashMap<List<FinancingObject>> index, FinancingObject financingObject) {
+        for (Owner owner : financingObject.owners()) {
+            List<FinancingObject> owned = index.computeIfAbsent(owner.id(), ownerId -> new ArrayList<>(1));
+            // an owner listed twice on the same financing object must still only see it once
+            if (owned.isEmpty() || owned.getLast() != financingObject) {
+                owned.add(financingObject);
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.matthiaskarl.techassessment.creditservice.repository;
+
+import org.matthiaskarl.techassessment.creditservice.domain.Limit;
+import org.matthiaskarl.techassessment.creditservice.util.LongObjectHashMap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class InMemoryLimitsRepository implements LimitsRepository {
+    private final LongObjectHashMap<Limit> byId;
+
+    InMemoryLimitsRepository(LongObjectHashMap<Limit> byId) {
+        this.byId = byId;
+    }
+
+    public static InMemoryLimitsRepository load(String location) {
+        LongObjectHashMap<Limit> limits = new LongObjectHashMap<>();
+        RepositoryUtils.stream(location, Limit.class, limit -> {
+            if (limits.put(limit.id(), limit) != null) {
+                throw new IllegalStateException("Duplicate limit id " + limit.id());
+            }
+        });
+        return new InMemoryLimitsRepository(limits);
+    }
+
+    @Override
+    public Limit findById(long id) {
+        return byId.get(id);
+    }
+
+    @Override
+    public List<Limit> findByIds(long[] ids) {
+        List<Limit> limits = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            limits.add(byId.get(id));
+        }
+        return limits;
+    }
+
+    @Override
+    public int size() {
+        return byId.size();
+    }
+
+}
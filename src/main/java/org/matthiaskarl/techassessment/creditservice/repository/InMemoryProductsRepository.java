@@ -0,0 +1,50 @@
+package org.matthiaskarl.techassessment.creditservice.repository;
+
+import org.matthiaskarl.techassessment.creditservice.domain.Product;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class InMemoryProductsRepository implements ProductsRepository {
+
+    private final ProductStore store;
+
+    InMemoryProductsRepository(ProductStore store) {
+        this.store = store;
+    }
+
+    public static InMemoryProductsRepository load(String location, ProductStorage storage) {
+        return switch (storage) {
+            case HEAP -> {
+                HeapProductStore store = new HeapProductStore();
+                RepositoryUtils.stream(location, Product.class, store::add);
+                yield new InMemoryProductsRepository(store);
+            }
+            case COLUMNAR -> {
+                ColumnarProductStore store = new ColumnarProductStore();
+                RepositoryUtils.stream(location, Product.class, store::add);
+                yield new InMemoryProductsRepository(store.seal());
+            }
+        };
+    }
+
+    @Override
+    public Product findById(long id) {
+        return store.findById(id);
+    }
+
+    @Override
+    public List<Product> findByIds(long[] ids) {
+        List<Product> products = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            products.add(store.findById(id));
+        }
+        return products;
+    }
+
+    @Override
+    public int size() {
+        return store.size();
+    }
+
+}
@@ -1,26 +1,23 @@
 package org.matthiaskarl.techassessment.creditservice.repository;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import org.matthiaskarl.techassessment.creditservice.domain.Limit;
-import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-
-@Repository
-public class LimitsRepository {
-    private static final String PATH = "20231214_TestData_LIMITS.json";
-    private final Map<Long, Limit> byId;
-
-    public LimitsRepository() {
-        List<Limit> list = RepositoryUtils.read(PATH, new TypeReference<>() {
-        });
-        this.byId = list.stream().collect(Collectors.toMap(Limit::id, limit -> limit));
-    }
+import java.util.concurrent.CompletableFuture;
+
+public interface LimitsRepository {
+
+    Limit findById(long id);
 
-    public Limit findById(long id) {
-        return byId.get(id);
+    /**
+     * @return the limits in the order of the ids, with {@code null} for unknown ids
+     */
+    List<Limit> findByIds(long[] ids);
+
+    default CompletableFuture<List<Limit>> findByIdsAsync(long[] ids) {
+        return CompletableFuture.completedFuture(findByIds(ids));
     }
 
+    int size();
+
 }
@@ -0,0 +1,16 @@
+package org.matthiaskarl.techassessment.creditservice.repository;
+
+public enum ProductStorage {
+
+    /**
+     * One {@code Product} object per product in a hash map.
+     */
+    HEAP,
+
+    /**
+     * Primitive columns, a deduplicated string dictionary and a primitive id index; {@code Product} objects are only
+     * created for the rows a request touches.
+     */
+    COLUMNAR
+
+}
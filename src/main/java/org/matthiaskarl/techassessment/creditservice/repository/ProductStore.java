@@ -0,0 +1,11 @@
+package org.matthiaskarl.techassessment.creditservice.repository;
+
+import org.matthiaskarl.techassessment.creditservice.domain.Product;
+
+interface ProductStore {
+
+    Product findById(long id);
+
+    int size();
+
+}
@@ -1,37 +1,23 @@
 package org.matthiaskarl.techassessment.creditservice.repository;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import org.matthiaskarl.techassessment.creditservice.domain.Product;
-import org.springframework.stereotype.Repository;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
-@Repository
-public class ProductsRepository {
+public interface ProductsRepository {
 
-    private static final String PATH = "20231214_TestData_PRODUCTS.json";
-    private final Map<Long, Product> byId;
+    Product findById(long id);
 
-    public ProductsRepository() {
-        List<Product> list = RepositoryUtils.read(PATH, new TypeReference<>() {
-        });
-        this.byId = list.stream().collect(Collectors.toMap(Product::id, product -> product));
-    }
+    /**
+     * @return the products in the order of the ids, with {@code null} for unknown ids
+     */
+    List<Product> findByIds(long[] ids);
 
-    public Product findById(long id) {
-        return byId.get(id);
+    default CompletableFuture<List<Product>> findByIdsAsync(long[] ids) {
+        return CompletableFuture.completedFuture(findByIds(ids));
     }
 
-    public List<Product> findByIds(List<Long> ids) {
-        List<Product> products = new ArrayList<>();
-        for (Long id : ids) {
-            Product product = findById(id);
-            products.add(product);
-        }
-        return products;
-    }
+    int size();
 
 }
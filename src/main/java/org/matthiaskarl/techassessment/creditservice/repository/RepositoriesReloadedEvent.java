@@ -0,0 +1,7 @@
+package org.matthiaskarl.techassessment.creditservice.repository;
+
+public record RepositoriesReloadedEvent(
+        RepositorySnapshot previous,
+        RepositorySnapshot current
+) {
+}
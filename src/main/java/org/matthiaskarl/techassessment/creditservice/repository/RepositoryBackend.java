@@ -0,0 +1,16 @@
+package org.matthiaskarl.techassessment.creditservice.repository;
+
+public enum RepositoryBackend {
+
+    /**
+     * The data files are loaded into memory at startup and can be reloaded while running.
+     */
+    IN_MEMORY,
+
+    /**
+     * The repositories query a database through the configured {@code spring.datasource}, which has to be filled
+     * with {@code DatabaseImporter} beforehand. Nothing is loaded at startup.
+     */
+    JDBC
+
+}
@@ -0,0 +1,60 @@
+package org.matthiaskarl.techassessment.creditservice.repository;
+
+import org.matthiaskarl.techassessment.creditservice.repository.cache.RepositoryCaches;
+import org.matthiaskarl.techassessment.creditservice.repository.jdbc.JdbcRepositories;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
+import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Optional;
+
+/**
+ * With the in-memory backend the data is loaded while the application context starts, so the application does not
+ * report readiness before all repositories are available. The JDBC backend only checks that the database has been
+ * imported, and its repositories are put behind the {@link RepositoryCaches} when those are enabled. The repository
+ * beans are proxies that always delegate to the current snapshot; request processing should read
+ * {@link RepositorySnapshotHolder#current()} once instead.
+ */
+@Configuration
+public class RepositoryConfiguration {
+
+    @Bean
+    public RepositorySnapshotHolder repositorySnapshotHolder(RepositoryLoader repositoryLoader,
+                                                             DataProperties properties,
+                                                             Optional<JdbcTemplate> jdbcTemplate,
+                                                             Optional<RepositoryCaches> repositoryCaches,
+                                                             ApplicationEventPublisher eventPublisher) {
+        RepositorySnapshot initial = switch (properties.backend()) {
+            case IN_MEMORY -> repositoryLoader.load(DataFiles.of(properties));
+            case JDBC -> {
+                RepositorySnapshot database = JdbcRepositories.open(jdbcTemplate.orElseThrow(
+                        () -> new IllegalStateException("credit-service.data.backend=jdbc requires spring.datasource.url")));
+                yield repositoryCaches.map(caches -> caches.wrap(database)).orElse(database);
+            }
+        };
+        return new RepositorySnapshotHolder(initial, eventPublisher);
+    }
+
+    @Bean
+    @Scope(value = ConfigurableBeanFactory.SCOPE_PROTOTYPE, proxyMode = ScopedProxyMode.INTERFACES)
+    public FinancingObjectRepository financingObjectRepository(RepositorySnapshotHolder repositorySnapshotHolder) {
+        return repositorySnapshotHolder.current().financingObjects();
+    }
+
+    @Bean
+    @Scope(value = ConfigurableBeanFactory.SCOPE_PROTOTYPE, proxyMode = ScopedProxyMode.INTERFACES)
+    public LimitsRepository limitsRepository(RepositorySnapshotHolder repositorySnapshotHolder) {
+        return repositorySnapshotHolder.current().limits();
+    }
+
+    @Bean
+    @Scope(value = ConfigurableBeanFactory.SCOPE_PROTOTYPE, proxyMode = ScopedProxyMode.INTERFACES)
+    public ProductsRepository productsRepository(RepositorySnapshotHolder repositorySnapshotHolder) {
+        return repositorySnapshotHolder.current().products();
+    }
+
+}
@@ -0,0 +1,92 @@
+package org.matthiaskarl.techassessment.creditservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+@Component
+@RequiredArgsConstructor
+public class RepositoryLoader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RepositoryLoader.class);
+
+    private final DataProperties properties;
+
+    public RepositorySnapshot load(DataFiles files) {
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, properties.loaderThreads()),
+                Thread.ofPlatform().name("repository-loader-", 0).factory()
+        );
+        try {
+            CompletableFuture<InMemoryFinancingObjectRepository> financingObjects = CompletableFuture.supplyAsync(
+                    () -> timed("financing objects", files.financingObjects(), InMemoryFinancingObjectRepository::load, InMemoryFinancingObjectRepository::size),
+                    executor
+            );
+            CompletableFuture<InMemoryLimitsRepository> limits = CompletableFuture.supplyAsync(
+                    () -> timed("limits", files.limits(), InMemoryLimitsRepository::load, InMemoryLimitsRepository::size),
+                    executor
+            );
+            CompletableFuture<InMemoryProductsRepository> products = CompletableFuture.supplyAsync(
+                    () -> timed("products", files.products(),
+                            location -> InMemoryProductsRepository.load(location, properties.productsStorage()),
+                            InMemoryProductsRepository::size),
+                    executor
+            );
+            CompletableFuture.allOf(financingObjects, limits, products).join();
+
+            RepositorySnapshot snapshot = new RepositorySnapshot(financingObjects.join(), limits.join(), products.join(), files);
+            verifyReferences(financingObjects.join(), snapshot);
+            LOGGER.info("Loaded all repositories in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return snapshot;
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Failed to load repositories", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static <T> T timed(String name, String location, Function<String, T> loader, ToIntFunction<T> counter) {
+        long start = System.nanoTime();
+        T repository = loader.apply(location);
+        LOGGER.info("Loaded {} {} from {} in {} ms",
+                counter.applyAsInt(repository),
+                name,
+                location,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+        );
+        return repository;
+    }
+
+    private static void verifyReferences(InMemoryFinancingObjectRepository financingObjects, RepositorySnapshot snapshot) {
+        int missingLimits = 0;
+        int missingProducts = 0;
+        for (FinancingObject financingObject : financingObjects.findAll()) {
+            if (snapshot.limits().findById(financingObject.limit()) == null) {
+                missingLimits++;
+            }
+            for (long productId : financingObject.products()) {
+                if (snapshot.products().findById(productId) == null) {
+                    missingProducts++;
+                }
+            }
+        }
+        if (missingLimits > 0 || missingProducts > 0) {
+            LOGGER.warn("Financing objects reference {} unknown limits and {} unknown products",
+                    missingLimits,
+                    missingProducts
+            );
+        }
+    }
+
+}
@@ -0,0 +1,12 @@
+package org.matthiaskarl.techassessment.creditservice.repository;
+
+/**
+ * @param files the data files the repositories were loaded from, {@code null} for a backend that does not read files
+ */
+public record RepositorySnapshot(
+        FinancingObjectRepository financingObjects,
+        LimitsRepository limits,
+        ProductsRepository products,
+        DataFiles files
+) {
+}
@@ -0,0 +1,35 @@
+package org.matthiaskarl.techassessment.creditservice.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Points to the repositories currently being served. Callers read {@link #current()} once per request and use that
+ * snapshot throughout, so a concurrent swap never mixes data from two loads within one response.
+ */
+public class RepositorySnapshotHolder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RepositorySnapshotHolder.class);
+
+    private final AtomicReference<RepositorySnapshot> current;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public RepositorySnapshotHolder(RepositorySnapshot initial, ApplicationEventPublisher eventPublisher) {
+        this.current = new AtomicReference<>(initial);
+        this.eventPublisher = eventPublisher;
+    }
+
+    public RepositorySnapshot current() {
+        return current.get();
+    }
+
+    public void swap(RepositorySnapshot snapshot) {
+        RepositorySnapshot previous = current.getAndSet(snapshot);
+        LOGGER.info("Now serving {}", snapshot.files());
+        eventPublisher.publishEvent(new RepositoriesReloadedEvent(previous, snapshot));
+    }
+
+}
@@ -1,24 +1,103 @@
 package org.matthiaskarl.techassessment.creditservice.repository;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.matthiaskarl.techassessment.creditservice.repository.binary.BinaryFormat;
+import org.matthiaskarl.techassessment.creditservice.repository.binary.BinarySnapshotReader;
+import org.matthiaskarl.techassessment.creditservice.util.StringPool;
 import org.springframework.core.io.ClassPathResource;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 
 public class RepositoryUtils {
-    private static final ObjectMapper MAPPER = new ObjectMapper();
+    // 16k slots of at most 64 chars keep the pool below a few MB while covering the repeated values of the extracts
+    private static final StringPool STRING_POOL = new StringPool(1 << 14, 64);
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new CanonicalStringsModule(STRING_POOL));
+
+    private static final String CLASSPATH_PREFIX = "classpath:";
+    private static final String FILE_PREFIX = "file:";
 
     private RepositoryUtils() {
         throw new UnsupportedOperationException("This utility class is not mean to be instantiated");
     }
 
     public static <T> T read(String path, TypeReference<T> type) {
-        try (InputStream in = new ClassPathResource(path).getInputStream()) {
+        try (InputStream in = open(path)) {
             return MAPPER.readValue(in, type);
         } catch (Exception e) {
             throw new IllegalStateException("Failed to read " + path, e);
         }
     }
 
+    /**
+     * Reads a top-level JSON array element by element and hands each bound element to the consumer, so the
+     * whole file is never materialized as a list. Locations ending in {@value BinaryFormat#FILE_EXTENSION} are
+     * read as binary snapshots instead.
+     *
+     * @return the number of elements read
+     */
+    public static <T> long stream(String location, Class<T> type, Consumer<? super T> consumer) {
+        if (location.endsWith(BinaryFormat.FILE_EXTENSION)) {
+            return BinarySnapshotReader.read(filePath(location), type, consumer);
+        }
+        ObjectReader reader = MAPPER.readerFor(type);
+        try (InputStream in = open(location); JsonParser parser = MAPPER.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalStateException("Expected a JSON array in " + location);
+            }
+            long count = 0;
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                consumer.accept(reader.readValue(parser));
+                count++;
+            }
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                throw new IllegalStateException("Unexpected " + parser.currentToken() + " in " + location);
+            }
+            return count;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read " + location, e);
+        }
+    }
+
+    /**
+     * Reads a whole data file into a list, with the same element-wise binding as {@link #stream}.
+     */
+    public static <T> List<T> readList(String location, Class<T> type) {
+        List<T> values = new ArrayList<>();
+        stream(location, type, values::add);
+        return values;
+    }
+
+    /**
+     * Opens a data file. {@code classpath:} and {@code file:} prefixes select the source explicitly; a bare
+     * location is read from the filesystem if such a file exists and from the classpath otherwise.
+     */
+    public static InputStream open(String location) throws IOException {
+        if (location.startsWith(CLASSPATH_PREFIX)) {
+            return new ClassPathResource(location.substring(CLASSPATH_PREFIX.length())).getInputStream();
+        }
+        if (location.startsWith(FILE_PREFIX)) {
+            return Files.newInputStream(Path.of(location.substring(FILE_PREFIX.length())));
+        }
+        Path path = Path.of(location);
+        return Files.isRegularFile(path) ? Files.newInputStream(path) : new ClassPathResource(location).getInputStream();
+    }
+
+    private static Path filePath(String location) {
+        if (location.startsWith(CLASSPATH_PREFIX)) {
+            throw new IllegalStateException("Binary snapshots are memory-mapped and must be files, not " + location);
+        }
+        return Path.of(location.startsWith(FILE_PREFIX) ? location.substring(FILE_PREFIX.length()) : location);
+    }
+
 }
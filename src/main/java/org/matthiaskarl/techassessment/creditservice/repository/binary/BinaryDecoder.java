@@ -0,0 +1,77 @@
+package org.matthiaskarl.techassessment.creditservice.repository.binary;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+final class BinaryDecoder {
+
+    private final String[] strings;
+    private ByteBuffer buffer;
+
+    BinaryDecoder(String[] strings) {
+        this.strings = strings;
+    }
+
+    void reset(ByteBuffer block) {
+        this.buffer = block;
+    }
+
+    boolean hasRemaining() {
+        return buffer.hasRemaining();
+    }
+
+    long readLong() {
+        return buffer.getLong();
+    }
+
+    int readInt() {
+        return buffer.getInt();
+    }
+
+    double readDouble() {
+        return buffer.getDouble();
+    }
+
+    boolean readBoolean() {
+        return buffer.get() != 0;
+    }
+
+    int readVarInt() {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    /**
+     * @return the list size, or -1 for a null list
+     */
+    int readListSize() {
+        return readVarInt() - 1;
+    }
+
+    String readString() {
+        int reference = readVarInt();
+        return reference == 0 ? null : strings[reference - 1];
+    }
+
+    String readRawString() {
+        int length = readVarInt();
+        String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+}
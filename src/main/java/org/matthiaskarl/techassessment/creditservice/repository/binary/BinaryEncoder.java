@@ -0,0 +1,91 @@
+package org.matthiaskarl.techassessment.creditservice.repository.binary;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+
+final class BinaryEncoder {
+
+    private final Map<String, Integer> stringIds;
+    private ByteBuffer buffer;
+
+    BinaryEncoder(Map<String, Integer> stringIds, int initialCapacity) {
+        this.stringIds = stringIds;
+        this.buffer = ByteBuffer.allocate(initialCapacity);
+    }
+
+    void writeLong(long value) {
+        ensureRemaining(Long.BYTES).putLong(value);
+    }
+
+    void writeInt(int value) {
+        ensureRemaining(Integer.BYTES).putInt(value);
+    }
+
+    void writeDouble(double value) {
+        ensureRemaining(Double.BYTES).putDouble(value);
+    }
+
+    void writeBoolean(boolean value) {
+        ensureRemaining(1).put(value ? (byte) 1 : (byte) 0);
+    }
+
+    void writeVarInt(int value) {
+        ensureRemaining(5);
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    void writeListSize(Collection<?> list) {
+        writeVarInt(list == null ? 0 : list.size() + 1);
+    }
+
+    void writeArraySize(long[] array) {
+        writeVarInt(array == null ? 0 : array.length + 1);
+    }
+
+    void writeString(String value) {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        Integer id = stringIds.get(value);
+        if (id == null) {
+            throw new IllegalStateException("String missing from the string table: " + value);
+        }
+        writeVarInt(id + 1);
+    }
+
+    void writeRawString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        ensureRemaining(bytes.length).put(bytes);
+    }
+
+    int size() {
+        return buffer.position();
+    }
+
+    ByteBuffer flip() {
+        return buffer.flip();
+    }
+
+    void clear() {
+        buffer.clear();
+    }
+
+    private ByteBuffer ensureRemaining(int bytes) {
+        if (buffer.remaining() < bytes) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+            buffer.flip();
+            larger.put(buffer);
+            buffer = larger;
+        }
+        return buffer;
+    }
+
+}
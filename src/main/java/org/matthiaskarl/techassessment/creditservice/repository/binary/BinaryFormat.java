@@ -0,0 +1,121 @@
+package org.matthiaskarl.techassessment.creditservice.repository.binary;
+
+import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
+import org.matthiaskarl.techassessment.creditservice.domain.Limit;
+import org.matthiaskarl.techassessment.creditservice.domain.Product;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Layout of a binary snapshot file.
+ * <pre>
+ * header (32 bytes, big endian)
+ *   int   magic            "CSNP"
+ *   short version
+ *   byte  record type
+ *   byte  reserved
+ *   long  record count
+ *   int   string count
+ *   long  body length      bytes following the header
+ *   int   checksum         CRC32C over the body
+ * body
+ *   blocks of [int payload length][payload]: first the string table (varint UTF-8 length + bytes per string),
+ *   then the records. Strings inside records are varint references into the table, 0 standing for null.
+ *   Dates are int epoch days.
+ * </pre>
+ */
+public final class BinaryFormat {
+
+    public static final String FILE_EXTENSION = ".snap";
+
+    static final int MAGIC = 0x43534E50;
+    static final short VERSION = 2;
+    static final int HEADER_SIZE = 32;
+    static final int BLOCK_SIZE = 1 << 20;
+
+    private BinaryFormat() {
+        throw new UnsupportedOperationException("This utility class is not mean to be instantiated");
+    }
+
+    public enum RecordType {
+        FINANCING_OBJECT(1, FinancingObject.class, RecordCodecs.FINANCING_OBJECT),
+        LIMITS(2, Limit.class, RecordCodecs.LIMIT),
+        PRODUCTS(3, Product.class, RecordCodecs.PRODUCT);
+
+        private final byte id;
+        private final Class<?> type;
+        private final RecordCodec<?> codec;
+
+        RecordType(int id, Class<?> type, RecordCodec<?> codec) {
+            this.id = (byte) id;
+            this.type = type;
+            this.codec = codec;
+        }
+
+        byte id() {
+            return id;
+        }
+
+        public Class<?> type() {
+            return type;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> RecordCodec<T> codec(Class<T> expectedType) {
+            if (type != expectedType) {
+                throw new IllegalArgumentException(this + " snapshots contain " + type.getSimpleName() + ", not " + expectedType.getSimpleName());
+            }
+            return (RecordCodec<T>) codec;
+        }
+
+        public static RecordType forFileName(String fileName) {
+            return Arrays.stream(values())
+                    .filter(recordType -> fileName.contains("_" + recordType.name() + "."))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Cannot tell the record type of " + fileName));
+        }
+
+        public static RecordType of(Class<?> type) {
+            return Arrays.stream(values())
+                    .filter(recordType -> recordType.type == type)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("No binary snapshot format for " + type));
+        }
+
+        static RecordType of(byte id) {
+            return Arrays.stream(values())
+                    .filter(recordType -> recordType.id == id)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("Unknown snapshot record type " + id));
+        }
+    }
+
+    record Header(RecordType recordType, long recordCount, int stringCount, long bodyLength, int checksum) {
+
+        void write(ByteBuffer buffer) {
+            buffer.putInt(MAGIC)
+                    .putShort(VERSION)
+                    .put(recordType.id())
+                    .put((byte) 0)
+                    .putLong(recordCount)
+                    .putInt(stringCount)
+                    .putLong(bodyLength)
+                    .putInt(checksum);
+        }
+
+        static Header read(ByteBuffer buffer) {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalStateException("Not a binary snapshot");
+            }
+            short version = buffer.getShort();
+            if (version != VERSION) {
+                throw new IllegalStateException("Unsupported snapshot version " + version);
+            }
+            RecordType recordType = RecordType.of(buffer.get());
+            buffer.get();
+            return new Header(recordType, buffer.getLong(), buffer.getInt(), buffer.getLong(), buffer.getInt());
+        }
+    }
+
+}
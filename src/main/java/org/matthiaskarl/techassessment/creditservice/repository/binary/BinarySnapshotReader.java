@@ -0,0 +1,98 @@
+package org.matthiaskarl.techassessment.creditservice.repository.binary;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+public final class BinarySnapshotReader {
+
+    private static final long WINDOW_SIZE = 256L << 20;
+
+    private BinarySnapshotReader() {
+        throw new UnsupportedOperationException("This utility class is not mean to be instantiated");
+    }
+
+    /**
+     * Decodes a snapshot through memory-mapped windows of the file and hands each record to the consumer. The
+     * checksum is verified once the last block has been read, so a corrupt file fails the load as a whole.
+     *
+     * @return the number of records read
+     */
+    public static <T> long read(Path path, Class<T> type, Consumer<? super T> consumer) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < BinaryFormat.HEADER_SIZE) {
+                throw new IllegalStateException(path + " is too small to be a binary snapshot");
+            }
+            BinaryFormat.Header header = BinaryFormat.Header.read(channel.map(FileChannel.MapMode.READ_ONLY, 0, BinaryFormat.HEADER_SIZE));
+            RecordCodec<T> codec = header.recordType().codec(type);
+            if (BinaryFormat.HEADER_SIZE + header.bodyLength() != size) {
+                throw new IllegalStateException(path + " is truncated or has trailing data");
+            }
+
+            String[] strings = new String[header.stringCount()];
+            BinaryDecoder decoder = new BinaryDecoder(strings);
+            CRC32C checksum = new CRC32C();
+            Window window = new Window(channel, size);
+            int stringsRead = 0;
+            long recordsRead = 0;
+
+            long position = BinaryFormat.HEADER_SIZE;
+            while (position < size) {
+                int payloadLength = window.slice(position, Integer.BYTES).getInt();
+                ByteBuffer block = window.slice(position, Integer.BYTES + payloadLength);
+                checksum.update(block.duplicate());
+                decoder.reset(block.position(Integer.BYTES));
+                while (decoder.hasRemaining()) {
+                    if (stringsRead < strings.length) {
+                        strings[stringsRead++] = decoder.readRawString();
+                    } else {
+                        consumer.accept(codec.read(decoder));
+                        recordsRead++;
+                    }
+                }
+                position += Integer.BYTES + payloadLength;
+            }
+
+            if ((int) checksum.getValue() != header.checksum()) {
+                throw new IllegalStateException("Checksum mismatch in " + path);
+            }
+            if (stringsRead != header.stringCount() || recordsRead != header.recordCount()) {
+                throw new IllegalStateException("Expected " + header.recordCount() + " records in " + path + " but found " + recordsRead);
+            }
+            return recordsRead;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read " + path, e);
+        }
+    }
+
+    private static final class Window {
+
+        private final FileChannel channel;
+        private final long size;
+        private MappedByteBuffer buffer;
+        private long start;
+
+        private Window(FileChannel channel, long size) {
+            this.channel = channel;
+            this.size = size;
+        }
+
+        ByteBuffer slice(long position, int length) throws IOException {
+            if (length < 0 || position + length > size) {
+                throw new IllegalStateException("Snapshot block exceeds the file size");
+            }
+            if (buffer == null || position < start || position + length > start + buffer.capacity()) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(size - position, Math.max(WINDOW_SIZE, length)));
+                start = position;
+            }
+            return buffer.slice((int) (position - start), length);
+        }
+    }
+
+}
@@ -0,0 +1,115 @@
+package org.matthiaskarl.techassessment.creditservice.repository.binary;
+
+import org.matthiaskarl.techassessment.creditservice.repository.RepositoryUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+public final class BinarySnapshotWriter {
+
+    private BinarySnapshotWriter() {
+        throw new UnsupportedOperationException("This utility class is not mean to be instantiated");
+    }
+
+    /**
+     * Converts a JSON extract in two streaming passes: the first collects the string table, the second encodes the
+     * records. The snapshot is written next to the target and moved into place once complete.
+     *
+     * @return the number of records written
+     */
+    public static <T> long write(String jsonLocation, Class<T> type, Path target) {
+        BinaryFormat.RecordType recordType = BinaryFormat.RecordType.of(type);
+        RecordCodec<T> codec = recordType.codec(type);
+
+        Map<String, Integer> stringIds = new HashMap<>();
+        List<String> table = new ArrayList<>();
+        RepositoryUtils.stream(jsonLocation, type, value -> codec.collectStrings(value, string -> {
+            if (string != null && stringIds.putIfAbsent(string, table.size()) == null) {
+                table.add(string);
+            }
+        }));
+
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            BlockWriter blocks = new BlockWriter(channel, new BinaryEncoder(stringIds, BinaryFormat.BLOCK_SIZE + 4096));
+            for (String string : table) {
+                blocks.encoder.writeRawString(string);
+                blocks.flushIfFull();
+            }
+            blocks.flush();
+
+            long recordCount = RepositoryUtils.stream(jsonLocation, type, value -> {
+                codec.write(value, blocks.encoder);
+                blocks.flushIfFull();
+            });
+            blocks.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(BinaryFormat.HEADER_SIZE);
+            new BinaryFormat.Header(recordType, recordCount, stringIds.size(), blocks.bodyLength, (int) blocks.checksum.getValue())
+                    .write(header);
+            writeFully(channel, header.flip(), 0);
+            channel.force(true);
+
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return recordCount;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write " + target, e);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static final class BlockWriter {
+
+        private final FileChannel channel;
+        private final BinaryEncoder encoder;
+        private final CRC32C checksum = new CRC32C();
+        private final ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+        private long bodyLength;
+
+        private BlockWriter(FileChannel channel, BinaryEncoder encoder) {
+            this.channel = channel;
+            this.encoder = encoder;
+        }
+
+        void flushIfFull() {
+            if (encoder.size() >= BinaryFormat.BLOCK_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (encoder.size() == 0) {
+                return;
+            }
+            ByteBuffer payload = encoder.flip();
+            length.clear().putInt(payload.remaining()).flip();
+            checksum.update(length.duplicate());
+            checksum.update(payload.duplicate());
+            try {
+                long position = BinaryFormat.HEADER_SIZE + bodyLength;
+                bodyLength += Integer.BYTES + payload.remaining();
+                writeFully(channel, length, position);
+                writeFully(channel, payload, position + Integer.BYTES);
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to write snapshot block", e);
+            }
+            encoder.clear();
+        }
+    }
+
+}
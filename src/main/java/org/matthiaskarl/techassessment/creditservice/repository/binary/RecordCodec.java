@@ -0,0 +1,13 @@
+package org.matthiaskarl.techassessment.creditservice.repository.binary;
+
+import java.util.function.Consumer;
+
+interface RecordCodec<T> {
+
+    void collectStrings(T value, Consumer<String> strings);
+
+    void write(T value, BinaryEncoder encoder);
+
+    T read(BinaryDecoder decoder);
+
+}
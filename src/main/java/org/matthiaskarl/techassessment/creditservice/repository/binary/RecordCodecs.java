@@ -0,0 +1,187 @@
+package org.matthiaskarl.techassessment.creditservice.repository.binary;
+
+import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
+import org.matthiaskarl.techassessment.creditservice.domain.Limit;
+import org.matthiaskarl.techassessment.creditservice.domain.Owner;
+import org.matthiaskarl.techassessment.creditservice.domain.Product;
+import org.matthiaskarl.techassessment.creditservice.domain.RealSecurity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+final class RecordCodecs {
+
+    static final RecordCodec<Product> PRODUCT = new RecordCodec<>() {
+
+        @Override
+        public void collectStrings(Product product, Consumer<String> strings) {
+            strings.accept(product.name());
+            strings.accept(product.type());
+            strings.accept(product.currencyCode());
+            strings.accept(product.productNumber());
+            strings.accept(product.defaultSettlementAccountNumber());
+        }
+
+        @Override
+        public void write(Product product, BinaryEncoder encoder) {
+            encoder.writeLong(product.id());
+            encoder.writeString(product.name());
+            encoder.writeString(product.type());
+            encoder.writeLong(product.amount());
+            encoder.writeString(product.currencyCode());
+            encoder.writeDouble(product.interestRate());
+            encoder.writeInt(product.startDate());
+            encoder.writeInt(product.endDate());
+            encoder.writeString(product.productNumber());
+            encoder.writeString(product.defaultSettlementAccountNumber());
+            encoder.writeDouble(product.interestDue());
+            encoder.writeBoolean(product.isOverdue());
+            encoder.writeInt(product.interestPaymentFrequency());
+        }
+
+        @Override
+        public Product read(BinaryDecoder decoder) {
+            return new Product(
+                    decoder.readLong(),
+                    decoder.readString(),
+                    decoder.readString(),
+                    decoder.readLong(),
+                    decoder.readString(),
+                    decoder.readDouble(),
+                    decoder.readInt(),
+                    decoder.readInt(),
+                    decoder.readString(),
+                    decoder.readString(),
+                    decoder.readDouble(),
+                    decoder.readBoolean(),
+                    decoder.readInt()
+            );
+        }
+    };
+
+    static final RecordCodec<Limit> LIMIT = new RecordCodec<>() {
+
+        @Override
+        public void collectStrings(Limit limit, Consumer<String> strings) {
+            strings.accept(limit.name());
+            strings.accept(limit.type());
+            strings.accept(limit.contractNumber());
+            if (limit.realSecurities() != null) {
+                for (RealSecurity realSecurity : limit.realSecurities()) {
+                    strings.accept(realSecurity.type());
+                    strings.accept(realSecurity.address());
+                    strings.accept(realSecurity.currency());
+                }
+            }
+        }
+
+        @Override
+        public void write(Limit limit, BinaryEncoder encoder) {
+            encoder.writeLong(limit.id());
+            encoder.writeString(limit.name());
+            encoder.writeString(limit.type());
+            encoder.writeDouble(limit.limitAmount());
+            encoder.writeDouble(limit.amortisationAmountAnnual());
+            encoder.writeInt(limit.agreedAmortisationFrequency());
+            encoder.writeString(limit.contractNumber());
+            encoder.writeListSize(limit.realSecurities());
+            if (limit.realSecurities() != null) {
+                for (RealSecurity realSecurity : limit.realSecurities()) {
+                    encoder.writeString(realSecurity.type());
+                    encoder.writeString(realSecurity.address());
+                    encoder.writeLong(realSecurity.collateralValue());
+                    encoder.writeString(realSecurity.currency());
+                    encoder.writeInt(realSecurity.nextRevaluationDate());
+                }
+            }
+        }
+
+        @Override
+        public Limit read(BinaryDecoder decoder) {
+            long id = decoder.readLong();
+            String name = decoder.readString();
+            String type = decoder.readString();
+            double limitAmount = decoder.readDouble();
+            double amortisationAmountAnnual = decoder.readDouble();
+            int agreedAmortisationFrequency = decoder.readInt();
+            String contractNumber = decoder.readString();
+            int realSecuritiesSize = decoder.readListSize();
+            List<RealSecurity> realSecurities = null;
+            if (realSecuritiesSize >= 0) {
+                realSecurities = new ArrayList<>(realSecuritiesSize);
+                for (int i = 0; i < realSecuritiesSize; i++) {
+                    realSecurities.add(new RealSecurity(
+                            decoder.readString(),
+                            decoder.readString(),
+                            decoder.readLong(),
+                            decoder.readString(),
+                            decoder.readInt()
+                    ));
+                }
+            }
+            return new Limit(id, name, type, limitAmount, amortisationAmountAnnual, agreedAmortisationFrequency, contractNumber, realSecurities);
+        }
+    };
+
+    static final RecordCodec<FinancingObject> FINANCING_OBJECT = new RecordCodec<>() {
+
+        @Override
+        public void collectStrings(FinancingObject financingObject, Consumer<String> strings) {
+            if (financingObject.owners() != null) {
+                for (Owner owner : financingObject.owners()) {
+                    strings.accept(owner.name());
+                }
+            }
+            strings.accept(financingObject.status());
+        }
+
+        @Override
+        public void write(FinancingObject financingObject, BinaryEncoder encoder) {
+            encoder.writeLong(financingObject.id());
+            encoder.writeListSize(financingObject.owners());
+            if (financingObject.owners() != null) {
+                for (Owner owner : financingObject.owners()) {
+                    encoder.writeLong(owner.id());
+                    encoder.writeString(owner.name());
+                }
+            }
+            encoder.writeLong(financingObject.limit());
+            encoder.writeArraySize(financingObject.products());
+            if (financingObject.products() != null) {
+                for (long productId : financingObject.products()) {
+                    encoder.writeLong(productId);
+                }
+            }
+            encoder.writeString(financingObject.status());
+        }
+
+        @Override
+        public FinancingObject read(BinaryDecoder decoder) {
+            long id = decoder.readLong();
+            int ownersSize = decoder.readListSize();
+            List<Owner> owners = null;
+            if (ownersSize >= 0) {
+                owners = new ArrayList<>(ownersSize);
+                for (int i = 0; i < ownersSize; i++) {
+                    owners.add(new Owner(decoder.readLong(), decoder.readString()));
+                }
+            }
+            long limit = decoder.readLong();
+            int productsSize = decoder.readListSize();
+            long[] products = null;
+            if (productsSize >= 0) {
+                products = new long[productsSize];
+                for (int i = 0; i < productsSize; i++) {
+                    products[i] = decoder.readLong();
+                }
+            }
+            return new FinancingObject(id, owners, limit, products, decoder.readString());
+        }
+    };
+
+    private RecordCodecs() {
+        throw new UnsupportedOperationException("This utility class is not mean to be instantiated");
+    }
+
+}
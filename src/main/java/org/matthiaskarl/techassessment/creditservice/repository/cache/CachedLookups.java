@@ -0,0 +1,76 @@
+package org.matthiaskarl.techassessment.creditservice.repository.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * Loads single misses with {@code findById} and the misses of a bulk lookup with one {@code findByIds} call. Ids the
+ * repository does not know are left out, so they are not cached and come back as {@code null}.
+ */
+record CachedLookups<V>(LongFunction<V> findById, Function<long[], List<V>> findByIds) implements CacheLoader<Long, V> {
+
+    @Override
+    public V load(Long id) {
+        return findById.apply(id);
+    }
+
+    @Override
+    public Map<Long, V> loadAll(Set<? extends Long> ids) {
+        long[] keys = ids(ids);
+        return byId(keys, findByIds.apply(keys));
+    }
+
+    /**
+     * Loads the misses of an asynchronous bulk lookup with one {@code findByIdsAsync} call, leaving the calling thread
+     * free while the repository queries.
+     */
+    static <V> CompletableFuture<Map<Long, V>> loadAllAsync(Set<? extends Long> ids,
+                                                            Function<long[], CompletableFuture<List<V>>> findByIdsAsync) {
+        long[] keys = ids(ids);
+        return findByIdsAsync.apply(keys).thenApply(values -> byId(keys, values));
+    }
+
+    private static long[] ids(Set<? extends Long> ids) {
+        long[] keys = new long[ids.size()];
+        int i = 0;
+        for (Long id : ids) {
+            keys[i++] = id;
+        }
+        return keys;
+    }
+
+    private static <V> Map<Long, V> byId(long[] keys, List<V> values) {
+        Map<Long, V> loaded = HashMap.newHashMap(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            if (values.get(i) != null) {
+                loaded.put(keys[i], values.get(i));
+            }
+        }
+        return loaded;
+    }
+
+    static List<Long> keys(long[] ids) {
+        List<Long> keys = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            keys.add(id);
+        }
+        return keys;
+    }
+
+    static <V> List<V> inOrderOf(long[] ids, Map<Long, V> found) {
+        List<V> values = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            values.add(found.get(id));
+        }
+        return values;
+    }
+
+}
@@ -0,0 +1,51 @@
+package org.matthiaskarl.techassessment.creditservice.repository.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
+import org.matthiaskarl.techassessment.creditservice.repository.FinancingObjectRepository;
+import org.matthiaskarl.techassessment.creditservice.util.LongObjectHashMap;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Caches the financing objects per owner, including the empty list for owners without any. Full scans go straight
+ * to the delegate and do not touch the cache.
+ */
+public class CachingFinancingObjectRepository implements FinancingObjectRepository {
+
+    private final FinancingObjectRepository delegate;
+    private final AsyncLoadingCache<Long, List<FinancingObject>> byOwnerId;
+
+    CachingFinancingObjectRepository(FinancingObjectRepository delegate, AsyncLoadingCache<Long, List<FinancingObject>> byOwnerId) {
+        this.delegate = delegate;
+        this.byOwnerId = byOwnerId;
+    }
+
+    @Override
+    public List<FinancingObject> findByOwnerId(long ownerId) {
+        return byOwnerId.synchronous().get(ownerId);
+    }
+
+    @Override
+    public CompletableFuture<List<FinancingObject>> findByOwnerIdAsync(long ownerId) {
+        return byOwnerId.get(ownerId, (key, executor) -> delegate.findByOwnerIdAsync(key));
+    }
+
+    @Override
+    public void forEach(Consumer<? super FinancingObject> action) {
+        delegate.forEach(action);
+    }
+
+    @Override
+    public void forEachOwner(LongObjectHashMap.LongObjectConsumer<List<FinancingObject>> action) {
+        delegate.forEachOwner(action);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+}
@@ -0,0 +1,42 @@
+package org.matthiaskarl.techassessment.creditservice.repository.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import org.matthiaskarl.techassessment.creditservice.domain.Limit;
+import org.matthiaskarl.techassessment.creditservice.repository.LimitsRepository;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class CachingLimitsRepository implements LimitsRepository {
+
+    private final LimitsRepository delegate;
+    private final AsyncLoadingCache<Long, Limit> byId;
+
+    CachingLimitsRepository(LimitsRepository delegate, AsyncLoadingCache<Long, Limit> byId) {
+        this.delegate = delegate;
+        this.byId = byId;
+    }
+
+    @Override
+    public Limit findById(long id) {
+        return byId.synchronous().get(id);
+    }
+
+    @Override
+    public List<Limit> findByIds(long[] ids) {
+        return CachedLookups.inOrderOf(ids, byId.synchronous().getAll(CachedLookups.keys(ids)));
+    }
+
+    @Override
+    public CompletableFuture<List<Limit>> findByIdsAsync(long[] ids) {
+        return byId.getAll(CachedLookups.keys(ids),
+                        (missing, executor) -> CachedLookups.loadAllAsync(missing, delegate::findByIdsAsync))
+                .thenApply(found -> CachedLookups.inOrderOf(ids, found));
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+}
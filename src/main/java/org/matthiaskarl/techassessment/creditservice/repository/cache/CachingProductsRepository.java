@@ -0,0 +1,42 @@
+package org.matthiaskarl.techassessment.creditservice.repository.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import org.matthiaskarl.techassessment.creditservice.domain.Product;
+import org.matthiaskarl.techassessment.creditservice.repository.ProductsRepository;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class CachingProductsRepository implements ProductsRepository {
+
+    private final ProductsRepository delegate;
+    private final AsyncLoadingCache<Long, Product> byId;
+
+    CachingProductsRepository(ProductsRepository delegate, AsyncLoadingCache<Long, Product> byId) {
+        this.delegate = delegate;
+        this.byId = byId;
+    }
+
+    @Override
+    public Product findById(long id) {
+        return byId.synchronous().get(id);
+    }
+
+    @Override
+    public List<Product> findByIds(long[] ids) {
+        return CachedLookups.inOrderOf(ids, byId.synchronous().getAll(CachedLookups.keys(ids)));
+    }
+
+    @Override
+    public CompletableFuture<List<Product>> findByIdsAsync(long[] ids) {
+        return byId.getAll(CachedLookups.keys(ids),
+                        (missing, executor) -> CachedLookups.loadAllAsync(missing, delegate::findByIdsAsync))
+                .thenApply(found -> CachedLookups.inOrderOf(ids, found));
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+}
@@ -0,0 +1,26 @@
+package org.matthiaskarl.techassessment.creditservice.repository.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "credit-service.repository-cache")
+public record RepositoryCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue CacheSettings financingObjects,
+        @DefaultValue CacheSettings limits,
+        @DefaultValue CacheSettings products
+) {
+
+    /**
+     * @param maximumSize      number of entries, an owner's financing objects count as one entry
+     * @param expireAfterWrite how long an entry is served before it is read from the database again
+     */
+    public record CacheSettings(
+            @DefaultValue("100000") long maximumSize,
+            @DefaultValue("10m") Duration expireAfterWrite
+    ) {
+    }
+
+}
@@ -0,0 +1,60 @@
+package org.matthiaskarl.techassessment.creditservice.repository.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import org.matthiaskarl.techassessment.creditservice.repository.FinancingObjectRepository;
+import org.matthiaskarl.techassessment.creditservice.repository.LimitsRepository;
+import org.matthiaskarl.techassessment.creditservice.repository.ProductsRepository;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshot;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read-through caches in front of repositories that are not served from the heap, bounded per entity type by size
+ * (W-TinyLFU eviction) and by time since loading. A lookup that misses on a key which another request is already
+ * loading waits for that load instead of starting its own; the misses of a bulk lookup are loaded together with one
+ * {@code findByIds} call. Synchronous lookups load on the calling thread, asynchronous ones through the repository's
+ * {@code findByOwnerIdAsync} and {@code findByIdsAsync}, so they do not block the caller either. Hits, misses, loads
+ * and evictions are published as the Micrometer {@code cache.*} meters, tagged with the cache name.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "credit-service.repository-cache", name = "enabled", havingValue = "true")
+public class RepositoryCaches {
+
+    private final RepositoryCacheProperties properties;
+    private final MeterRegistry registry;
+
+    public RepositorySnapshot wrap(RepositorySnapshot snapshot) {
+        FinancingObjectRepository financingObjects = snapshot.financingObjects();
+        LimitsRepository limits = snapshot.limits();
+        ProductsRepository products = snapshot.products();
+        return new RepositorySnapshot(
+                new CachingFinancingObjectRepository(financingObjects,
+                        cache("financingObjects", properties.financingObjects(), financingObjects::findByOwnerId)),
+                new CachingLimitsRepository(limits,
+                        cache("limits", properties.limits(), new CachedLookups<>(limits::findById, limits::findByIds))),
+                new CachingProductsRepository(products,
+                        cache("products", properties.products(), new CachedLookups<>(products::findById, products::findByIds))),
+                snapshot.files()
+        );
+    }
+
+    private <V> AsyncLoadingCache<Long, V> cache(String name,
+                                                 RepositoryCacheProperties.CacheSettings settings,
+                                                 CacheLoader<Long, V> loader) {
+        AsyncLoadingCache<Long, V> cache = Caffeine.newBuilder()
+                .maximumSize(settings.maximumSize())
+                .expireAfterWrite(settings.expireAfterWrite())
+                .executor(Runnable::run)
+                .recordStats()
+                .buildAsync(loader);
+        CaffeineCacheMetrics.monitor(registry, cache.synchronous(), name);
+        return cache;
+    }
+
+}
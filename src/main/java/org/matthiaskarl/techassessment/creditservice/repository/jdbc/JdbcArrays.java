@@ -0,0 +1,20 @@
+package org.matthiaskarl.techassessment.creditservice.repository.jdbc;
+
+final class JdbcArrays {
+
+    private JdbcArrays() {
+        throw new UnsupportedOperationException("This utility class is not mean to be instantiated");
+    }
+
+    /**
+     * Boxes ids for an {@code = ANY(?)} parameter, which the driver binds as a SQL array.
+     */
+    static Long[] boxed(long[] ids) {
+        Long[] boxed = new Long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            boxed[i] = ids[i];
+        }
+        return boxed;
+    }
+
+}
@@ -0,0 +1,31 @@
+package org.matthiaskarl.techassessment.creditservice.repository.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+/**
+ * The connection pool of the JDBC backend. Spring Boot's DataSource auto-configuration is excluded from the
+ * application: with H2 on the classpath it would start an embedded database for the in-memory backend, and a jdbc
+ * backend without a url would silently serve that empty database instead of failing.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "credit-service.data", name = "backend", havingValue = "jdbc")
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class JdbcConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        if (!StringUtils.hasText(properties.getUrl())) {
+            throw new IllegalStateException("credit-service.data.backend=jdbc requires spring.datasource.url");
+        }
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+}
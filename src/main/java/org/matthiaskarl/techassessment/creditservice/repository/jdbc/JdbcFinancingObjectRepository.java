@@ -0,0 +1,192 @@
+package org.matthiaskarl.techassessment.creditservice.repository.jdbc;
+
+import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
+import org.matthiaskarl.techassessment.creditservice.domain.Owner;
+import org.matthiaskarl.techassessment.creditservice.repository.FinancingObjectRepository;
+import org.matthiaskarl.techassessment.creditservice.util.LongObjectHashMap;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Reads financing objects with three queries per lookup, one each for the financing objects, their owners and their
+ * product ids, all selected by the same condition. The product ids of every financing object therefore arrive in
+ * one batch instead of a query per id.
+ */
+public class JdbcFinancingObjectRepository implements FinancingObjectRepository {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private static final Queries BY_OWNER_ID = Queries.where(
+            " IN (SELECT financing_object_ordinal FROM financing_object_owner WHERE owner_id = ?)");
+    private static final Queries BY_OWNER_ID_RANGE = Queries.where(
+            " IN (SELECT financing_object_ordinal FROM financing_object_owner WHERE owner_id BETWEEN ? AND ?)");
+    private static final Queries BY_ORDINAL_RANGE = Queries.where(" BETWEEN ? AND ?");
+
+    /**
+     * Groups the product ids, which arrive ordered by financing object and position, into one array per financing
+     * object.
+     */
+    private static final ResultSetExtractor<LongObjectHashMap<long[]>> PRODUCT_IDS = resultSet -> {
+        LongObjectHashMap<long[]> productIds = new LongObjectHashMap<>();
+        long[] buffer = new long[16];
+        int size = 0;
+        long current = -1;
+        while (resultSet.next()) {
+            long ordinal = resultSet.getLong(1);
+            if (ordinal != current) {
+                if (size > 0) {
+                    productIds.put(current, Arrays.copyOf(buffer, size));
+                }
+                current = ordinal;
+                size = 0;
+            }
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            buffer[size++] = resultSet.getLong(2);
+        }
+        if (size > 0) {
+            productIds.put(current, Arrays.copyOf(buffer, size));
+        }
+        return productIds;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Executor lookups;
+
+    JdbcFinancingObjectRepository(JdbcTemplate jdbcTemplate, Executor lookups) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.lookups = lookups;
+    }
+
+    @Override
+    public List<FinancingObject> findByOwnerId(long ownerId) {
+        return query(BY_OWNER_ID, ownerId);
+    }
+
+    @Override
+    public CompletableFuture<List<FinancingObject>> findByOwnerIdAsync(long ownerId) {
+        return CompletableFuture.supplyAsync(() -> findByOwnerId(ownerId), lookups);
+    }
+
+    @Override
+    public void forEach(Consumer<? super FinancingObject> action) {
+        for (long from = 0; ; from += PAGE_SIZE) {
+            List<FinancingObject> page = query(BY_ORDINAL_RANGE, from, from + PAGE_SIZE - 1);
+            if (page.isEmpty()) {
+                return;
+            }
+            page.forEach(action);
+        }
+    }
+
+    /**
+     * Pages through the owners in id order, {@value #PAGE_SIZE} at a time. The financing objects of a page are read
+     * with the same three queries as a single lookup and grouped by owner, so no owner's list is split across pages.
+     */
+    @Override
+    public void forEachOwner(LongObjectHashMap.LongObjectConsumer<List<FinancingObject>> action) {
+        long after = Long.MIN_VALUE;
+        while (true) {
+            List<Long> ownerIds = jdbcTemplate.queryForList(
+                    "SELECT DISTINCT owner_id FROM financing_object_owner WHERE owner_id > ? ORDER BY owner_id LIMIT " + PAGE_SIZE,
+                    Long.class,
+                    after
+            );
+            if (ownerIds.isEmpty()) {
+                return;
+            }
+            long from = ownerIds.getFirst();
+            long to = ownerIds.getLast();
+
+            LongObjectHashMap<List<FinancingObject>> byOwnerId = new LongObjectHashMap<>(ownerIds.size());
+            for (FinancingObject financingObject : query(BY_OWNER_ID_RANGE, from, to)) {
+                for (Owner owner : financingObject.owners()) {
+                    if (owner.id() < from || owner.id() > to) {
+                        continue;
+                    }
+                    List<FinancingObject> owned = byOwnerId.computeIfAbsent(owner.id(), ownerId -> new ArrayList<>(1));
+                    // an owner listed twice on the same financing object must still only see it once
+                    if (owned.isEmpty() || owned.getLast() != financingObject) {
+                        owned.add(financingObject);
+                    }
+                }
+            }
+            for (long ownerId : ownerIds) {
+                action.accept(ownerId, byOwnerId.get(ownerId));
+            }
+            after = to;
+        }
+    }
+
+    @Override
+    public int size() {
+        return Math.toIntExact(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM financing_object", Long.class));
+    }
+
+    private List<FinancingObject> query(Queries queries, Object... args) {
+        List<FinancingObjectRow> rows = jdbcTemplate.query(queries.financingObjects,
+                (resultSet, rowNum) -> new FinancingObjectRow(
+                        resultSet.getLong(1),
+                        resultSet.getLong(2),
+                        resultSet.getLong(3),
+                        resultSet.getString(4)
+                ),
+                args
+        );
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        LongObjectHashMap<List<Owner>> owners = new LongObjectHashMap<>(rows.size());
+        jdbcTemplate.query(queries.owners, (RowCallbackHandler) resultSet -> owners
+                        .computeIfAbsent(resultSet.getLong(1), ordinal -> new ArrayList<>(1))
+                        .add(new Owner(resultSet.getLong(2), resultSet.getString(3))),
+                args
+        );
+        LongObjectHashMap<long[]> productIds = jdbcTemplate.query(queries.productIds, PRODUCT_IDS, args);
+
+        List<FinancingObject> financingObjects = new ArrayList<>(rows.size());
+        for (FinancingObjectRow row : rows) {
+            List<Owner> rowOwners = owners.get(row.ordinal);
+            long[] rowProductIds = productIds.get(row.ordinal);
+            financingObjects.add(new FinancingObject(
+                    row.id,
+                    rowOwners != null ? rowOwners : new ArrayList<>(0),
+                    row.limitId,
+                    rowProductIds != null ? rowProductIds : new long[0],
+                    row.status
+            ));
+        }
+        return financingObjects;
+    }
+
+    private record FinancingObjectRow(long ordinal, long id, long limitId, String status) {
+    }
+
+    private record Queries(String financingObjects, String owners, String productIds) {
+
+        static Queries where(String ordinalCondition) {
+            return new Queries(
+                    "SELECT ordinal, id, limit_id, status FROM financing_object"
+                            + " WHERE ordinal" + ordinalCondition
+                            + " ORDER BY ordinal",
+                    "SELECT financing_object_ordinal, owner_id, owner_name FROM financing_object_owner"
+                            + " WHERE financing_object_ordinal" + ordinalCondition
+                            + " ORDER BY financing_object_ordinal, ordinal",
+                    "SELECT financing_object_ordinal, product_id FROM financing_object_product"
+                            + " WHERE financing_object_ordinal" + ordinalCondition
+                            + " ORDER BY financing_object_ordinal, ordinal"
+            );
+        }
+    }
+
+}
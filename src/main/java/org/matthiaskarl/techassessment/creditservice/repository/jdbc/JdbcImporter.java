@@ -0,0 +1,204 @@
+package org.matthiaskarl.techassessment.creditservice.repository.jdbc;
+
+import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
+import org.matthiaskarl.techassessment.creditservice.domain.Limit;
+import org.matthiaskarl.techassessment.creditservice.domain.Owner;
+import org.matthiaskarl.techassessment.creditservice.domain.Product;
+import org.matthiaskarl.techassessment.creditservice.domain.RealSecurity;
+import org.matthiaskarl.techassessment.creditservice.repository.DataFiles;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositoryUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills the tables of the JDBC backend from data files (JSON extracts or binary snapshots). The files are streamed
+ * record by record into batched inserts, so the import needs no more memory for large extracts than for small ones.
+ * The rows go to staging tables that replace the tables of a previous import only once every file is imported, so a
+ * failed import leaves the previous data in place.
+ */
+public final class JdbcImporter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JdbcImporter.class);
+
+    private static final int BATCH_SIZE = 1000;
+
+    private JdbcImporter() {
+        throw new UnsupportedOperationException("This utility class is not mean to be instantiated");
+    }
+
+    public static void importFiles(Connection connection, DataFiles files) {
+        long start = System.nanoTime();
+        try (Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(false);
+            JdbcSchema.recreateStagingTables(statement);
+            connection.commit();
+
+            importFinancingObjects(connection, files.financingObjects());
+            importLimits(connection, files.limits());
+            importProducts(connection, files.products());
+
+            JdbcSchema.createStagingIndexes(statement);
+            JdbcSchema.swapStagingTables(statement, files.toString());
+            connection.commit();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to import " + files, e);
+        }
+        LOGGER.info("Imported {} in {} ms", files, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private static void importFinancingObjects(Connection connection, String location) throws SQLException {
+        try (BatchInsert financingObjects = new BatchInsert(connection, "INSERT INTO " + JdbcSchema.STAGING + "financing_object (ordinal, id, limit_id, status) VALUES (?, ?, ?, ?)");
+             BatchInsert owners = new BatchInsert(connection, "INSERT INTO " + JdbcSchema.STAGING + "financing_object_owner (financing_object_ordinal, ordinal, owner_id, owner_name) VALUES (?, ?, ?, ?)");
+             BatchInsert products = new BatchInsert(connection, "INSERT INTO " + JdbcSchema.STAGING + "financing_object_product (financing_object_ordinal, ordinal, product_id) VALUES (?, ?, ?)")) {
+            long[] ordinal = {0};
+            long count = RepositoryUtils.stream(location, FinancingObject.class, financingObject -> {
+                long financingObjectOrdinal = ordinal[0]++;
+                financingObjects.add(statement -> {
+                    statement.setLong(1, financingObjectOrdinal);
+                    statement.setLong(2, financingObject.id());
+                    statement.setLong(3, financingObject.limit());
+                    statement.setString(4, financingObject.status());
+                });
+                List<Owner> ownerList = financingObject.owners();
+                for (int i = 0; i < ownerList.size(); i++) {
+                    Owner owner = ownerList.get(i);
+                    int position = i;
+                    owners.add(statement -> {
+                        statement.setLong(1, financingObjectOrdinal);
+                        statement.setInt(2, position);
+                        statement.setLong(3, owner.id());
+                        statement.setString(4, owner.name());
+                    });
+                }
+                long[] productIds = financingObject.products();
+                for (int i = 0; i < productIds.length; i++) {
+                    long productId = productIds[i];
+                    int position = i;
+                    products.add(statement -> {
+                        statement.setLong(1, financingObjectOrdinal);
+                        statement.setInt(2, position);
+                        statement.setLong(3, productId);
+                    });
+                }
+            });
+            financingObjects.flush();
+            owners.flush();
+            products.flush();
+            connection.commit();
+            LOGGER.info("Imported {} financing objects from {}", count, location);
+        }
+    }
+
+    private static void importLimits(Connection connection, String location) throws SQLException {
+        try (BatchInsert limits = new BatchInsert(connection, "INSERT INTO " + JdbcSchema.STAGING + "credit_limit (id, name, type, limit_amount, amortisation_amount_annual, agreed_amortisation_frequency, contract_number, has_real_securities) VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+             BatchInsert securities = new BatchInsert(connection, "INSERT INTO " + JdbcSchema.STAGING + "real_security (limit_id, ordinal, type, address, collateral_value, currency, next_revaluation_date) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            long count = RepositoryUtils.stream(location, Limit.class, limit -> {
+                limits.add(statement -> {
+                    statement.setLong(1, limit.id());
+                    statement.setString(2, limit.name());
+                    statement.setString(3, limit.type());
+                    statement.setDouble(4, limit.limitAmount());
+                    statement.setDouble(5, limit.amortisationAmountAnnual());
+                    statement.setInt(6, limit.agreedAmortisationFrequency());
+                    statement.setString(7, limit.contractNumber());
+                    statement.setBoolean(8, limit.realSecurities() != null);
+                });
+                if (limit.realSecurities() == null) {
+                    return;
+                }
+                for (int i = 0; i < limit.realSecurities().size(); i++) {
+                    RealSecurity security = limit.realSecurities().get(i);
+                    int position = i;
+                    securities.add(statement -> {
+                        statement.setLong(1, limit.id());
+                        statement.setInt(2, position);
+                        statement.setString(3, security.type());
+                        statement.setString(4, security.address());
+                        statement.setLong(5, security.collateralValue());
+                        statement.setString(6, security.currency());
+                        statement.setInt(7, security.nextRevaluationDate());
+                    });
+                }
+            });
+            limits.flush();
+            securities.flush();
+            connection.commit();
+            LOGGER.info("Imported {} limits from {}", count, location);
+        }
+    }
+
+    private static void importProducts(Connection connection, String location) throws SQLException {
+        try (BatchInsert products = new BatchInsert(connection, "INSERT INTO " + JdbcSchema.STAGING + "product (id, name, type, amount, currency_code, interest_rate, start_date, end_date, product_number, default_settlement_account_number, interest_due, is_overdue, interest_payment_frequency) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            long count = RepositoryUtils.stream(location, Product.class, product -> products.add(statement -> {
+                statement.setLong(1, product.id());
+                statement.setString(2, product.name());
+                statement.setString(3, product.type());
+                statement.setLong(4, product.amount());
+                statement.setString(5, product.currencyCode());
+                statement.setDouble(6, product.interestRate());
+                statement.setInt(7, product.startDate());
+                statement.setInt(8, product.endDate());
+                statement.setString(9, product.productNumber());
+                statement.setString(10, product.defaultSettlementAccountNumber());
+                statement.setDouble(11, product.interestDue());
+                statement.setBoolean(12, product.isOverdue());
+                statement.setInt(13, product.interestPaymentFrequency());
+            }));
+            products.flush();
+            connection.commit();
+            LOGGER.info("Imported {} products from {}", count, location);
+        }
+    }
+
+    private interface ParameterSetter {
+        void set(PreparedStatement statement) throws SQLException;
+    }
+
+    /**
+     * A prepared insert that executes and commits its rows in batches of {@value #BATCH_SIZE}.
+     */
+    private static final class BatchInsert implements AutoCloseable {
+
+        private final Connection connection;
+        private final PreparedStatement statement;
+        private int pending;
+
+        private BatchInsert(Connection connection, String sql) throws SQLException {
+            this.connection = connection;
+            this.statement = connection.prepareStatement(sql);
+        }
+
+        void add(ParameterSetter parameters) {
+            try {
+                parameters.set(statement);
+                statement.addBatch();
+                if (++pending == BATCH_SIZE) {
+                    flush();
+                    connection.commit();
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("Failed to insert a batch of rows", e);
+            }
+        }
+
+        void flush() throws SQLException {
+            if (pending > 0) {
+                statement.executeBatch();
+                pending = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            statement.close();
+        }
+    }
+
+}
@@ -0,0 +1,100 @@
+package org.matthiaskarl.techassessment.creditservice.repository.jdbc;
+
+import org.matthiaskarl.techassessment.creditservice.domain.Limit;
+import org.matthiaskarl.techassessment.creditservice.domain.RealSecurity;
+import org.matthiaskarl.techassessment.creditservice.repository.LimitsRepository;
+import org.matthiaskarl.techassessment.creditservice.util.LongObjectHashMap;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Reads limits together with their real securities in one query, one row per security. Several limits are read in
+ * the same query, passing the ids as a single array parameter.
+ */
+public class JdbcLimitsRepository implements LimitsRepository {
+
+    private static final String SELECT = """
+            SELECT l.id, l.name, l.type, l.limit_amount, l.amortisation_amount_annual, l.agreed_amortisation_frequency,
+                   l.contract_number, l.has_real_securities,
+                   s.ordinal, s.type, s.address, s.collateral_value, s.currency, s.next_revaluation_date
+            FROM credit_limit l LEFT JOIN real_security s ON s.limit_id = l.id
+            """;
+    private static final String FIND_BY_ID = SELECT + "WHERE l.id = ? ORDER BY s.ordinal";
+    private static final String FIND_BY_IDS = SELECT + "WHERE l.id = ANY(?) ORDER BY l.id, s.ordinal";
+
+    /**
+     * Groups the rows, which arrive ordered by limit and security position, into one limit each.
+     */
+    private static final ResultSetExtractor<LongObjectHashMap<Limit>> LIMITS = resultSet -> {
+        LongObjectHashMap<Limit> limits = new LongObjectHashMap<>();
+        boolean hasRow = resultSet.next();
+        while (hasRow) {
+            long id = resultSet.getLong(1);
+            String name = resultSet.getString(2);
+            String type = resultSet.getString(3);
+            double limitAmount = resultSet.getDouble(4);
+            double amortisationAmountAnnual = resultSet.getDouble(5);
+            int agreedAmortisationFrequency = resultSet.getInt(6);
+            String contractNumber = resultSet.getString(7);
+            List<RealSecurity> realSecurities = resultSet.getBoolean(8) ? new ArrayList<>() : null;
+            do {
+                resultSet.getInt(9);
+                if (realSecurities != null && !resultSet.wasNull()) {
+                    realSecurities.add(new RealSecurity(
+                            resultSet.getString(10),
+                            resultSet.getString(11),
+                            resultSet.getLong(12),
+                            resultSet.getString(13),
+                            resultSet.getInt(14)
+                    ));
+                }
+                hasRow = resultSet.next();
+            } while (hasRow && resultSet.getLong(1) == id);
+            limits.put(id, new Limit(id, name, type, limitAmount, amortisationAmountAnnual, agreedAmortisationFrequency,
+                    contractNumber, realSecurities));
+        }
+        return limits;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Executor lookups;
+
+    JdbcLimitsRepository(JdbcTemplate jdbcTemplate, Executor lookups) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.lookups = lookups;
+    }
+
+    @Override
+    public Limit findById(long id) {
+        return jdbcTemplate.query(FIND_BY_ID, LIMITS, id).get(id);
+    }
+
+    @Override
+    public List<Limit> findByIds(long[] ids) {
+        List<Limit> limits = new ArrayList<>(ids.length);
+        if (ids.length == 0) {
+            return limits;
+        }
+        LongObjectHashMap<Limit> byId = jdbcTemplate.query(FIND_BY_IDS, LIMITS, (Object) JdbcArrays.boxed(ids));
+        for (long id : ids) {
+            limits.add(byId.get(id));
+        }
+        return limits;
+    }
+
+    @Override
+    public CompletableFuture<List<Limit>> findByIdsAsync(long[] ids) {
+        return CompletableFuture.supplyAsync(() -> findByIds(ids), lookups);
+    }
+
+    @Override
+    public int size() {
+        return Math.toIntExact(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM credit_limit", Long.class));
+    }
+
+}
@@ -0,0 +1,83 @@
+package org.matthiaskarl.techassessment.creditservice.repository.jdbc;
+
+import org.matthiaskarl.techassessment.creditservice.domain.Product;
+import org.matthiaskarl.techassessment.creditservice.repository.ProductsRepository;
+import org.matthiaskarl.techassessment.creditservice.util.LongObjectHashMap;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Reads all products of a financing object in one query, passing the ids as a single array parameter so the
+ * statement text is the same for any number of ids.
+ */
+public class JdbcProductsRepository implements ProductsRepository {
+
+    private static final String COLUMNS = "SELECT id, name, type, amount, currency_code, interest_rate, start_date,"
+            + " end_date, product_number, default_settlement_account_number, interest_due, is_overdue,"
+            + " interest_payment_frequency FROM product";
+    private static final String FIND_BY_ID = COLUMNS + " WHERE id = ?";
+    private static final String FIND_BY_IDS = COLUMNS + " WHERE id = ANY(?)";
+
+    private static final RowMapper<Product> PRODUCT = (resultSet, rowNum) -> new Product(
+            resultSet.getLong(1),
+            resultSet.getString(2),
+            resultSet.getString(3),
+            resultSet.getLong(4),
+            resultSet.getString(5),
+            resultSet.getDouble(6),
+            resultSet.getInt(7),
+            resultSet.getInt(8),
+            resultSet.getString(9),
+            resultSet.getString(10),
+            resultSet.getDouble(11),
+            resultSet.getBoolean(12),
+            resultSet.getInt(13)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Executor lookups;
+
+    JdbcProductsRepository(JdbcTemplate jdbcTemplate, Executor lookups) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.lookups = lookups;
+    }
+
+    @Override
+    public Product findById(long id) {
+        List<Product> products = jdbcTemplate.query(FIND_BY_ID, PRODUCT, id);
+        return products.isEmpty() ? null : products.getFirst();
+    }
+
+    @Override
+    public List<Product> findByIds(long[] ids) {
+        if (ids.length == 0) {
+            return new ArrayList<>(0);
+        }
+        LongObjectHashMap<Product> byId = new LongObjectHashMap<>(ids.length);
+        for (Product product : jdbcTemplate.query(FIND_BY_IDS, PRODUCT, (Object) JdbcArrays.boxed(ids))) {
+            byId.put(product.id(), product);
+        }
+
+        List<Product> products = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            products.add(byId.get(id));
+        }
+        return products;
+    }
+
+    @Override
+    public CompletableFuture<List<Product>> findByIdsAsync(long[] ids) {
+        return CompletableFuture.supplyAsync(() -> findByIds(ids), lookups);
+    }
+
+    @Override
+    public int size() {
+        return Math.toIntExact(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product", Long.class));
+    }
+
+}
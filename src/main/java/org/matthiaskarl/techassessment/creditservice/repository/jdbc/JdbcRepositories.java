@@ -0,0 +1,60 @@
+package org.matthiaskarl.techassessment.creditservice.repository.jdbc;
+
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public final class JdbcRepositories {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JdbcRepositories.class);
+
+    /**
+     * Runs the queries of the asynchronous lookups, one virtual thread each, so callers of {@code findByOwnerIdAsync}
+     * and {@code findByIdsAsync} never block on JDBC. The connection pool bounds how many of them query at once.
+     */
+    private static final ExecutorService LOOKUPS = Executors.newVirtualThreadPerTaskExecutor();
+
+    private JdbcRepositories() {
+        throw new UnsupportedOperationException("This utility class is not mean to be instantiated");
+    }
+
+    /**
+     * Connects the repositories to an imported database. Only the import marker and the row counts are read, so
+     * startup takes the same time for any amount of data. Tables without the marker of a completed import are refused.
+     */
+    public static RepositorySnapshot open(JdbcTemplate jdbcTemplate) {
+        List<String> imports;
+        try {
+            imports = jdbcTemplate.queryForList("SELECT files FROM " + JdbcSchema.IMPORT_MARKER, String.class);
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("The database holds no completely imported data files, run the DatabaseImporter first", e);
+        }
+        if (imports.size() != 1) {
+            throw new IllegalStateException("The database holds no completely imported data files, run the DatabaseImporter first");
+        }
+        RepositorySnapshot snapshot = new RepositorySnapshot(
+                new JdbcFinancingObjectRepository(jdbcTemplate, LOOKUPS),
+                new JdbcLimitsRepository(jdbcTemplate, LOOKUPS),
+                new JdbcProductsRepository(jdbcTemplate, LOOKUPS),
+                null
+        );
+        try {
+            LOGGER.info("Serving {} financing objects, {} limits and {} products of {} from the database",
+                    snapshot.financingObjects().size(),
+                    snapshot.limits().size(),
+                    snapshot.products().size(),
+                    imports.get(0)
+            );
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("The database holds no imported data files, run the DatabaseImporter first", e);
+        }
+        return snapshot;
+    }
+
+}
@@ -0,0 +1,139 @@
+package org.matthiaskarl.techassessment.creditservice.repository.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Tables of the JDBC backend. Financing objects are keyed by their position in the extract, so lookups return them
+ * in extract order like the in-memory repositories; owners, product ids and real securities are child rows ordered
+ * by their position in the parent. Dates are stored as epoch days, like in the domain records.
+ */
+public final class JdbcSchema {
+
+    // create statements in the order of TABLE_NAMES, with the table name as placeholder
+    private static final String[] TABLES = {
+            """
+            CREATE TABLE %s (
+                ordinal BIGINT PRIMARY KEY,
+                id BIGINT NOT NULL,
+                limit_id BIGINT NOT NULL,
+                status VARCHAR
+            )""",
+            """
+            CREATE TABLE %s (
+                financing_object_ordinal BIGINT NOT NULL,
+                ordinal INT NOT NULL,
+                owner_id BIGINT NOT NULL,
+                owner_name VARCHAR,
+                PRIMARY KEY (financing_object_ordinal, ordinal)
+            )""",
+            """
+            CREATE TABLE %s (
+                financing_object_ordinal BIGINT NOT NULL,
+                ordinal INT NOT NULL,
+                product_id BIGINT NOT NULL,
+                PRIMARY KEY (financing_object_ordinal, ordinal)
+            )""",
+            """
+            CREATE TABLE %s (
+                id BIGINT PRIMARY KEY,
+                name VARCHAR,
+                type VARCHAR,
+                limit_amount DOUBLE PRECISION NOT NULL,
+                amortisation_amount_annual DOUBLE PRECISION NOT NULL,
+                agreed_amortisation_frequency INT NOT NULL,
+                contract_number VARCHAR,
+                has_real_securities BOOLEAN NOT NULL
+            )""",
+            """
+            CREATE TABLE %s (
+                limit_id BIGINT NOT NULL,
+                ordinal INT NOT NULL,
+                type VARCHAR,
+                address VARCHAR,
+                collateral_value BIGINT NOT NULL,
+                currency VARCHAR,
+                next_revaluation_date INT NOT NULL,
+                PRIMARY KEY (limit_id, ordinal)
+            )""",
+            """
+            CREATE TABLE %s (
+                id BIGINT PRIMARY KEY,
+                name VARCHAR,
+                type VARCHAR,
+                amount BIGINT NOT NULL,
+                currency_code VARCHAR,
+                interest_rate DOUBLE PRECISION NOT NULL,
+                start_date INT NOT NULL,
+                end_date INT NOT NULL,
+                product_number VARCHAR,
+                default_settlement_account_number VARCHAR,
+                interest_due DOUBLE PRECISION NOT NULL,
+                is_overdue BOOLEAN NOT NULL,
+                interest_payment_frequency INT NOT NULL
+            )"""
+    };
+
+    private static final String[] TABLE_NAMES = {
+            "financing_object", "financing_object_owner", "financing_object_product", "credit_limit", "real_security", "product"
+    };
+
+    // limit and product ids are indexed by their primary keys, owner ids need their own index
+    private static final String INDEX_NAME = "financing_object_owner_owner_id";
+    private static final String INDEX = "CREATE INDEX %s ON %s (owner_id)";
+
+    /**
+     * Prefix of the tables an import fills before they replace the served ones.
+     */
+    static final String STAGING = "staging_";
+
+    /**
+     * Holds one row describing the imported files while a complete set of tables is in place.
+     */
+    static final String IMPORT_MARKER = "data_import";
+
+    private JdbcSchema() {
+        throw new UnsupportedOperationException("This utility class is not mean to be instantiated");
+    }
+
+    /**
+     * Drops the staging tables of an aborted import and creates empty ones, without the secondary indexes.
+     */
+    static void recreateStagingTables(Statement statement) throws SQLException {
+        for (String table : TABLE_NAMES) {
+            statement.execute("DROP TABLE IF EXISTS " + STAGING + table);
+        }
+        for (int i = 0; i < TABLES.length; i++) {
+            statement.execute(TABLES[i].formatted(STAGING + TABLE_NAMES[i]));
+        }
+    }
+
+    /**
+     * Creates the secondary indexes on the staging tables, which is cheaper once after the bulk insert than on every
+     * inserted row.
+     */
+    static void createStagingIndexes(Statement statement) throws SQLException {
+        statement.execute(INDEX.formatted(STAGING + INDEX_NAME, STAGING + "financing_object_owner"));
+    }
+
+    /**
+     * Replaces the served tables by the staging tables. DDL commits implicitly in most databases, so the marker is
+     * removed first and written last: a swap that fails halfway leaves no marker, and {@link JdbcRepositories#open}
+     * refuses the tables instead of serving a mix of two imports.
+     */
+    static void swapStagingTables(Statement statement, String files) throws SQLException {
+        statement.execute("DROP TABLE IF EXISTS " + IMPORT_MARKER);
+        for (String table : TABLE_NAMES) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("ALTER TABLE " + STAGING + table + " RENAME TO " + table);
+        }
+        statement.execute("ALTER INDEX " + STAGING + INDEX_NAME + " RENAME TO " + INDEX_NAME);
+        statement.execute("CREATE TABLE " + IMPORT_MARKER + " (files VARCHAR NOT NULL)");
+        try (PreparedStatement insert = statement.getConnection().prepareStatement("INSERT INTO " + IMPORT_MARKER + " (files) VALUES (?)")) {
+            insert.setString(1, files);
+            insert.executeUpdate();
+        }
+    }
+
+}
@@ -0,0 +1,17 @@
+package org.matthiaskarl.techassessment.creditservice.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param window how long a finished result is still handed to new callers for the same user, zero only shares
+ *               computations that are still running
+ */
+@ConfigurationProperties(prefix = "credit-service.loans.coalescing")
+public record CoalescingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0ms") Duration window
+) {
+}
@@ -0,0 +1,73 @@
+package org.matthiaskarl.techassessment.creditservice.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
+import org.matthiaskarl.techassessment.creditservice.mapping.LoanJsonWriter;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshot;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshotHolder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Encodes the {@code loansByUser} response of a user without creating any loan DTOs, through {@link LoanJsonWriter}.
+ * The bytes are identical to serializing {@link LoanService#getLoansByUserId(long)}. With the materialized view
+ * enabled the precomputed loans are serialized instead, since they already exist.
+ */
+@Service
+@ConditionalOnProperty(prefix = "credit-service.loans", name = "direct-json", havingValue = "true")
+@RequiredArgsConstructor
+public class DirectLoanWriter {
+
+    private final RepositorySnapshotHolder repositorySnapshotHolder;
+    private final LoanAssembler loanAssembler;
+    private final LoanJsonWriter loanJsonWriter;
+    private final ObjectMapper objectMapper;
+    private final Optional<LoanMaterializedView> materializedView;
+    private final LoanMetrics loanMetrics;
+
+    private void writeLoansByUserId(long userId, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            writeLoansByUserId(userId, generator);
+        }
+    }
+
+    public byte[] writeLoansByUserIdAsBytes(long userId) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        writeLoansByUserId(userId, bytes);
+        return bytes.toByteArray();
+    }
+
+    private void writeLoansByUserId(long userId, JsonGenerator generator) throws IOException {
+        if (materializedView.isPresent()) {
+            objectMapper.writeValue(generator, materializedView.get().findByUserId(userId));
+            return;
+        }
+
+        RepositorySnapshot repositories = repositorySnapshotHolder.current();
+        long start = System.nanoTime();
+        List<FinancingObject> financingObjects = repositories.financingObjects().findByOwnerId(userId);
+        loanMetrics.record(LoanMetrics.Stage.FIND_BY_OWNER_ID, start);
+        loanMetrics.recordRequestSize(financingObjects);
+
+        ResolvedFinancingObjects resolved = loanAssembler.resolve(repositories, financingObjects);
+
+        // mapping and serialization are one step here, so their time is recorded as serialization
+        start = System.nanoTime();
+        generator.writeStartArray();
+        for (int i = 0; i < resolved.size(); i++) {
+            loanJsonWriter.writeLoans(generator, resolved.financingObject(i), resolved.limit(i), resolved.products(i));
+        }
+        generator.writeEndArray();
+        loanMetrics.record(LoanMetrics.Stage.SERIALIZE, start);
+    }
+
+}
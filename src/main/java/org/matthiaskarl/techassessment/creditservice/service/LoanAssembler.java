@@ -0,0 +1,91 @@
+package org.matthiaskarl.techassessment.creditservice.service;
+
+import lombok.RequiredArgsConstructor;
+import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
+import org.matthiaskarl.techassessment.creditservice.domain.Limit;
+import org.matthiaskarl.techassessment.creditservice.domain.Product;
+import org.matthiaskarl.techassessment.creditservice.dto.LoanDto;
+import org.matthiaskarl.techassessment.creditservice.mapping.ChildLoanMapper;
+import org.matthiaskarl.techassessment.creditservice.mapping.ChildLoanMappingRequest;
+import org.matthiaskarl.techassessment.creditservice.mapping.ParentLoanMapper;
+import org.matthiaskarl.techassessment.creditservice.mapping.ParentLoanMappingRequest;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshot;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class LoanAssembler {
+
+    private final ParentLoanMapper parentLoanMapper;
+    private final ChildLoanMapper childLoanMapper;
+    private final LoanMetrics loanMetrics;
+
+    public void assemble(RepositorySnapshot repositories, FinancingObject financingObject, List<LoanDto> loanDtos) {
+        long start = System.nanoTime();
+        Limit limit = repositories.limits().findById(financingObject.limit());
+        loanMetrics.record(LoanMetrics.Stage.FIND_LIMIT, start);
+
+        start = System.nanoTime();
+        List<Product> products = repositories.products().findByIds(financingObject.products());
+        loanMetrics.record(LoanMetrics.Stage.FIND_PRODUCTS, start);
+        assemble(financingObject, limit, products, loanDtos);
+    }
+
+    /**
+     * Looks up the limits and the products of all financing objects with one bulk call per repository, however
+     * many financing objects and products there are.
+     */
+    public ResolvedFinancingObjects resolve(RepositorySnapshot repositories, List<FinancingObject> financingObjects) {
+        if (financingObjects.isEmpty()) {
+            return new ResolvedFinancingObjects(financingObjects, List.of(), List.of());
+        }
+        long start = System.nanoTime();
+        List<Limit> limits = repositories.limits().findByIds(ResolvedFinancingObjects.limitIds(financingObjects));
+        loanMetrics.record(LoanMetrics.Stage.FIND_LIMIT, start);
+
+        start = System.nanoTime();
+        List<Product> products = repositories.products().findByIds(ResolvedFinancingObjects.productIds(financingObjects));
+        loanMetrics.record(LoanMetrics.Stage.FIND_PRODUCTS, start);
+        return new ResolvedFinancingObjects(financingObjects, limits, products);
+    }
+
+    public void assemble(ResolvedFinancingObjects resolved, List<LoanDto> loanDtos) {
+        for (int i = 0; i < resolved.size(); i++) {
+            assemble(resolved.financingObject(i), resolved.limit(i), resolved.products(i), loanDtos);
+        }
+    }
+
+    public void assemble(FinancingObject financingObject, Limit limit, List<Product> products, List<LoanDto> loanDtos) {
+        loanDtos.add(assembleParent(financingObject, limit, products));
+        for (Product product : products) {
+            loanDtos.add(assembleChild(financingObject, limit, product));
+        }
+    }
+
+    public LoanDto assembleParent(FinancingObject financingObject, Limit limit, List<Product> products) {
+        ParentLoanMappingRequest parentLoanMappingRequest = ParentLoanMappingRequest.builder()
+                .financingObject(financingObject)
+                .limit(limit)
+                .products(products)
+                .build();
+        long start = System.nanoTime();
+        LoanDto parentLoan = parentLoanMapper.apply(parentLoanMappingRequest);
+        loanMetrics.record(LoanMetrics.Stage.MAP_PARENT, start);
+        return parentLoan;
+    }
+
+    public LoanDto assembleChild(FinancingObject financingObject, Limit limit, Product product) {
+        ChildLoanMappingRequest childLoanMappingRequest = ChildLoanMappingRequest.builder()
+                .financingObject(financingObject)
+                .limit(limit)
+                .product(product)
+                .build();
+        long start = System.nanoTime();
+        LoanDto childLoan = childLoanMapper.apply(childLoanMappingRequest);
+        loanMetrics.record(LoanMetrics.Stage.MAP_CHILD, start);
+        return childLoan;
+    }
+
+}
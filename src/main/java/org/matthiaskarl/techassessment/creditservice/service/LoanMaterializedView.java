@@ -0,0 +1,82 @@
+package org.matthiaskarl.techassessment.creditservice.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
+import org.matthiaskarl.techassessment.creditservice.dto.LoanDto;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositoriesReloadedEvent;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshot;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshotHolder;
+import org.matthiaskarl.techassessment.creditservice.util.LongObjectHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Precomputed {@link LoanDto} lists per user. A refresh builds a complete new snapshot off to the side and
+ * publishes it with a single volatile write, so readers see either the old or the new view, never a mix.
+ */
+@Component
+@ConditionalOnProperty(prefix = "credit-service.loans", name = "materialized-view", havingValue = "true")
+@RequiredArgsConstructor
+public class LoanMaterializedView {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoanMaterializedView.class);
+
+    private final RepositorySnapshotHolder repositorySnapshotHolder;
+    private final LoanAssembler loanAssembler;
+
+    private volatile LongObjectHashMap<List<LoanDto>> loansByUserId = new LongObjectHashMap<>();
+
+    public List<LoanDto> findByUserId(long userId) {
+        List<LoanDto> loans = loansByUserId.get(userId);
+        return loans != null ? loans : List.of();
+    }
+
+    // runs before listeners that drop derived caches, so those are refilled from the new view
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onRepositoriesReloaded(RepositoriesReloadedEvent event) {
+        refresh();
+    }
+
+    @PostConstruct
+    public synchronized void refresh() {
+        long start = System.nanoTime();
+        RepositorySnapshot repositories = repositorySnapshotHolder.current();
+
+        // co-owned financing objects are mapped once and shared between the lists of all their owners
+        Map<FinancingObject, List<LoanDto>> loansByFinancingObject = new IdentityHashMap<>();
+        LongObjectHashMap<List<LoanDto>> snapshot = new LongObjectHashMap<>();
+        repositories.financingObjects().forEachOwner((userId, financingObjects) -> {
+            List<LoanDto> loans = new ArrayList<>();
+            for (FinancingObject financingObject : financingObjects) {
+                loans.addAll(loansByFinancingObject.computeIfAbsent(financingObject, fo -> assemble(repositories, fo)));
+            }
+            snapshot.put(userId, List.copyOf(loans));
+        });
+
+        this.loansByUserId = snapshot;
+        LOGGER.info("Materialized loans for {} users in {} ms",
+                snapshot.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+        );
+    }
+
+    private List<LoanDto> assemble(RepositorySnapshot repositories, FinancingObject financingObject) {
+        List<LoanDto> loans = new ArrayList<>();
+        loanAssembler.assemble(repositories, financingObject, loans);
+        return loans;
+    }
+
+}
@@ -0,0 +1,75 @@
+package org.matthiaskarl.techassessment.creditservice.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timers for the stages of a loan request and the size distribution of the requests. All meters are registered
+ * up front, so recording is a {@link System#nanoTime()} pair and a lock-free histogram update, without any meter
+ * lookup or tag allocation on the request path.
+ */
+@Component
+public class LoanMetrics {
+
+    public enum Stage {
+        FIND_BY_OWNER_ID("findByOwnerId"),
+        FIND_LIMIT("findLimit"),
+        FIND_PRODUCTS("findProducts"),
+        MAP_PARENT("mapParent"),
+        MAP_CHILD("mapChild"),
+        SERIALIZE("serialize");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final Timer[] stageTimers;
+    private final DistributionSummary financingObjectsPerUser;
+    private final DistributionSummary productsPerUser;
+
+    public LoanMetrics(MeterRegistry registry) {
+        this.stageTimers = new Timer[Stage.values().length];
+        for (Stage stage : Stage.values()) {
+            stageTimers[stage.ordinal()] = Timer.builder("loans.stage")
+                    .description("Time spent in one stage of a loan request")
+                    .tag("stage", stage.tag)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+        this.financingObjectsPerUser = DistributionSummary.builder("loans.user.financing.objects")
+                .description("Financing objects per loansByUser request")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.productsPerUser = DistributionSummary.builder("loans.user.products")
+                .description("Products over all financing objects per loansByUser request")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    public void record(Stage stage, long startNanos) {
+        recordNanos(stage, System.nanoTime() - startNanos);
+    }
+
+    public void recordNanos(Stage stage, long nanos) {
+        stageTimers[stage.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRequestSize(List<FinancingObject> financingObjects) {
+        int products = 0;
+        for (FinancingObject financingObject : financingObjects) {
+            products += financingObject.products().length;
+        }
+        financingObjectsPerUser.record(financingObjects.size());
+        productsPerUser.record(products);
+    }
+
+}
@@ -0,0 +1,93 @@
+package org.matthiaskarl.techassessment.creditservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.matthiaskarl.techassessment.creditservice.dto.LoanDto;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositoriesReloadedEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+/**
+ * Lets concurrent loan requests for the same user share one computation. The first caller computes the loans on its
+ * own thread, callers arriving meanwhile wait for its result, and the finished result is kept for the coalescing
+ * window before the next caller computes it again. Failures are handed to the waiting callers but never kept.
+ * Shared results are unmodifiable. {@code loans.coalesced} counts the callers that were served a shared result,
+ * tagged with whether the computation was still running or already finished.
+ */
+@Component
+@ConditionalOnProperty(prefix = "credit-service.loans.coalescing", name = "enabled", havingValue = "true")
+public class LoanRequestCoalescer {
+
+    private final ConcurrentHashMap<Long, CompletableFuture<List<LoanDto>>> calls = new ConcurrentHashMap<>();
+    private final Executor expiry;
+    private final Counter joinedRunning;
+    private final Counter joinedFinished;
+
+    public LoanRequestCoalescer(CoalescingProperties properties, MeterRegistry registry) {
+        long windowNanos = properties.window().toNanos();
+        this.expiry = windowNanos > 0 ? CompletableFuture.delayedExecutor(windowNanos, TimeUnit.NANOSECONDS) : null;
+        this.joinedRunning = collapsedCalls(registry, "running");
+        this.joinedFinished = collapsedCalls(registry, "finished");
+    }
+
+    public List<LoanDto> getLoansByUserId(long userId, LongFunction<List<LoanDto>> computation) {
+        CompletableFuture<List<LoanDto>> call = new CompletableFuture<>();
+        CompletableFuture<List<LoanDto>> shared = calls.putIfAbsent(userId, call);
+        if (shared != null) {
+            (shared.isDone() ? joinedFinished : joinedRunning).increment();
+            return join(shared);
+        }
+
+        try {
+            call.complete(Collections.unmodifiableList(computation.apply(userId)));
+        } catch (RuntimeException | Error e) {
+            calls.remove(userId, call);
+            call.completeExceptionally(e);
+            throw e;
+        }
+        if (expiry != null) {
+            expiry.execute(() -> calls.remove(userId, call));
+        } else {
+            calls.remove(userId, call);
+        }
+        return call.join();
+    }
+
+    // results computed on the previous repositories must not be handed out within the window
+    @EventListener(RepositoriesReloadedEvent.class)
+    public void invalidateAll() {
+        calls.clear();
+    }
+
+    private static List<LoanDto> join(CompletableFuture<List<LoanDto>> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static Counter collapsedCalls(MeterRegistry registry, String computation) {
+        return Counter.builder("loans.coalesced")
+                .description("loansByUser calls served with the result of another call for the same user")
+                .tag("computation", computation)
+                .register(registry);
+    }
+
+}
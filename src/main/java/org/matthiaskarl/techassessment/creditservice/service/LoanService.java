@@ -2,58 +2,142 @@ package org.matthiaskarl.techassessment.creditservice.service;
 
 import lombok.RequiredArgsConstructor;
 import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
-import org.matthiaskarl.techassessment.creditservice.domain.Limit;
-import org.matthiaskarl.techassessment.creditservice.domain.Product;
 import org.matthiaskarl.techassessment.creditservice.dto.LoanDto;
-import org.matthiaskarl.techassessment.creditservice.mapping.ChildLoanMapper;
-import org.matthiaskarl.techassessment.creditservice.mapping.ChildLoanMappingRequest;
-import org.matthiaskarl.techassessment.creditservice.mapping.ParentLoanMapper;
-import org.matthiaskarl.techassessment.creditservice.mapping.ParentLoanMappingRequest;
-import org.matthiaskarl.techassessment.creditservice.repository.FinancingObjectRepository;
-import org.matthiaskarl.techassessment.creditservice.repository.LimitsRepository;
-import org.matthiaskarl.techassessment.creditservice.repository.ProductsRepository;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshot;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshotHolder;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 @Service
 @RequiredArgsConstructor
 public class LoanService {
 
-    private final FinancingObjectRepository financingObjectRepository;
-    private final LimitsRepository limitsRepository;
-    private final ProductsRepository productsRepository;
+    private static final int EXPORT_BATCH_SIZE = 1000;
 
-    private final ParentLoanMapper parentLoanMapper;
-    private final ChildLoanMapper childLoanMapper;
+    private final RepositorySnapshotHolder repositorySnapshotHolder;
+    private final LoanAssembler loanAssembler;
+    private final Optional<LoanMaterializedView> materializedView;
+    private final Optional<ParallelLoanAssembler> parallelLoanAssembler;
+    private final Optional<LoanRequestCoalescer> loanRequestCoalescer;
+    private final LoanMetrics loanMetrics;
 
     public List<LoanDto> getLoansByUserId(long userId) {
+        if (materializedView.isPresent()) {
+            return materializedView.get().findByUserId(userId);
+        }
+        if (loanRequestCoalescer.isPresent()) {
+            return loanRequestCoalescer.get().getLoansByUserId(userId, this::assembleLoansByUserId);
+        }
+        return assembleLoansByUserId(userId);
+    }
+
+    private List<LoanDto> assembleLoansByUserId(long userId) {
+        RepositorySnapshot repositories = repositorySnapshotHolder.current();
+        long start = System.nanoTime();
+        List<FinancingObject> financingObjects = repositories.financingObjects().findByOwnerId(userId);
+        loanMetrics.record(LoanMetrics.Stage.FIND_BY_OWNER_ID, start);
+        loanMetrics.recordRequestSize(financingObjects);
+
+        ResolvedFinancingObjects resolved = loanAssembler.resolve(repositories, financingObjects);
+        if (parallelLoanAssembler.isPresent() && resolved.size() > 1) {
+            return parallelLoanAssembler.get().assemble(resolved);
+        }
+
         List<LoanDto> loanDtos = new ArrayList<>();
+        loanAssembler.assemble(resolved, loanDtos);
+        return loanDtos;
+    }
 
-        for (FinancingObject financingObject : financingObjectRepository.findByOwnerId(userId)) {
-            Limit limit = limitsRepository.findById(financingObject.limit());
-            List<Product> products = productsRepository.findByIds(financingObject.products());
-
-            ParentLoanMappingRequest parentLoanMappingRequest = ParentLoanMappingRequest.builder()
-                    .financingObject(financingObject)
-                    .limit(limit)
-                    .products(products)
-                    .build();
-            loanDtos.add(parentLoanMapper.apply(parentLoanMappingRequest));
-
-            for (Product product : products) {
-                ChildLoanMappingRequest childLoanMappingRequest = ChildLoanMappingRequest.builder()
-                        .financingObject(financingObject)
-                        .limit(limit)
-                        .product(product)
-                        .build();
-                loanDtos.add(childLoanMapper.apply(childLoanMappingRequest));
+    /**
+     * Loans of several users from one repository snapshot, in the order of the first occurrence of each user id.
+     * The limits and products of all their financing objects are looked up with one bulk call per repository, and
+     * financing objects shared by several of the users are only mapped once per call.
+     */
+    public Map<Long, List<LoanDto>> getLoansByUserIds(Collection<Long> userIds) {
+        Map<Long, List<LoanDto>> loansByUserId = new LinkedHashMap<>();
+        if (materializedView.isPresent()) {
+            for (Long userId : userIds) {
+                loansByUserId.computeIfAbsent(userId, materializedView.get()::findByUserId);
             }
+            return loansByUserId;
+        }
 
+        RepositorySnapshot repositories = repositorySnapshotHolder.current();
+        Map<Long, List<FinancingObject>> financingObjectsByUserId = new LinkedHashMap<>();
+        Map<FinancingObject, Integer> indexes = new IdentityHashMap<>();
+        List<FinancingObject> distinct = new ArrayList<>();
+        for (Long userId : userIds) {
+            financingObjectsByUserId.computeIfAbsent(userId, id -> {
+                List<FinancingObject> financingObjects = repositories.financingObjects().findByOwnerId(id);
+                for (FinancingObject financingObject : financingObjects) {
+                    if (indexes.putIfAbsent(financingObject, distinct.size()) == null) {
+                        distinct.add(financingObject);
+                    }
+                }
+                return financingObjects;
+            });
         }
 
-        return loanDtos;
+        ResolvedFinancingObjects resolved = loanAssembler.resolve(repositories, distinct);
+        List<List<LoanDto>> loansByIndex = new ArrayList<>(resolved.size());
+        for (int i = 0; i < resolved.size(); i++) {
+            List<LoanDto> loans = new ArrayList<>();
+            loanAssembler.assemble(resolved.financingObject(i), resolved.limit(i), resolved.products(i), loans);
+            loansByIndex.add(loans);
+        }
+
+        financingObjectsByUserId.forEach((userId, financingObjects) -> {
+            List<LoanDto> loanDtos = new ArrayList<>();
+            for (FinancingObject financingObject : financingObjects) {
+                loanDtos.addAll(loansByIndex.get(indexes.get(financingObject)));
+            }
+            loansByUserId.put(userId, loanDtos);
+        });
+        return loansByUserId;
+    }
+
+    /**
+     * Hands every loan of the portfolio that matches the filter to the consumer. Each financing object is mapped
+     * once, however many owners it has. Limits and products are looked up in bulk for {@value #EXPORT_BATCH_SIZE}
+     * financing objects at a time, and only the loans of the current financing object are held in memory.
+     */
+    public void forEachLoan(Predicate<LoanDto> filter, Consumer<LoanDto> consumer) {
+        RepositorySnapshot repositories = repositorySnapshotHolder.current();
+        List<FinancingObject> batch = new ArrayList<>(EXPORT_BATCH_SIZE);
 
+        repositories.financingObjects().forEach(financingObject -> {
+            batch.add(financingObject);
+            if (batch.size() == EXPORT_BATCH_SIZE) {
+                exportBatch(repositories, batch, filter, consumer);
+                batch.clear();
+            }
+        });
+        exportBatch(repositories, batch, filter, consumer);
+    }
+
+    private void exportBatch(RepositorySnapshot repositories,
+                             List<FinancingObject> batch,
+                             Predicate<LoanDto> filter,
+                             Consumer<LoanDto> consumer) {
+        ResolvedFinancingObjects resolved = loanAssembler.resolve(repositories, batch);
+        List<LoanDto> loanDtos = new ArrayList<>();
+        for (int i = 0; i < resolved.size(); i++) {
+            loanAssembler.assemble(resolved.financingObject(i), resolved.limit(i), resolved.products(i), loanDtos);
+            for (LoanDto loanDto : loanDtos) {
+                if (filter.test(loanDto)) {
+                    consumer.accept(loanDto);
+                }
+            }
+            loanDtos.clear();
+        }
     }
 }
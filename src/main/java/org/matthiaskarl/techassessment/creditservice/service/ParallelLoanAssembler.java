@@ -0,0 +1,79 @@
+package org.matthiaskarl.techassessment.creditservice.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
+import org.matthiaskarl.techassessment.creditservice.dto.LoanDto;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshot;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Maps the financing objects of one request concurrently, one virtual thread per financing object, after their
+ * limits and products have been looked up in bulk. The subtasks are scoped to the call: the result keeps the order
+ * of the financing objects, and if one subtask fails the others are cancelled and the failure is rethrown to the
+ * caller.
+ */
+@Component
+@ConditionalOnProperty(prefix = "credit-service.loans", name = "parallel-mapping", havingValue = "true")
+@RequiredArgsConstructor
+public class ParallelLoanAssembler {
+
+    private final LoanAssembler loanAssembler;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public List<LoanDto> assemble(RepositorySnapshot repositories, List<FinancingObject> financingObjects) {
+        return assemble(loanAssembler.resolve(repositories, financingObjects));
+    }
+
+    public List<LoanDto> assemble(ResolvedFinancingObjects resolved) {
+        List<Future<List<LoanDto>>> subtasks = new ArrayList<>(resolved.size());
+        try {
+            for (int i = 0; i < resolved.size(); i++) {
+                int index = i;
+                subtasks.add(executor.submit(() -> {
+                    List<LoanDto> loanDtos = new ArrayList<>();
+                    loanAssembler.assemble(resolved.financingObject(index), resolved.limit(index), resolved.products(index), loanDtos);
+                    return loanDtos;
+                }));
+            }
+            List<LoanDto> loanDtos = new ArrayList<>();
+            for (Future<List<LoanDto>> subtask : subtasks) {
+                loanDtos.addAll(subtask.get());
+            }
+            return loanDtos;
+        } catch (ExecutionException e) {
+            cancel(subtasks);
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Mapping loans failed", e.getCause());
+        } catch (InterruptedException e) {
+            cancel(subtasks);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while mapping loans", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private static void cancel(List<Future<List<LoanDto>>> subtasks) {
+        for (Future<List<LoanDto>> subtask : subtasks) {
+            subtask.cancel(true);
+        }
+    }
+
+}
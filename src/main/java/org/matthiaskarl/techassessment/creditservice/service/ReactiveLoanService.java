@@ -0,0 +1,72 @@
+package org.matthiaskarl.techassessment.creditservice.service;
+
+import lombok.RequiredArgsConstructor;
+import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
+import org.matthiaskarl.techassessment.creditservice.domain.Limit;
+import org.matthiaskarl.techassessment.creditservice.domain.Product;
+import org.matthiaskarl.techassessment.creditservice.dto.LoanDto;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshot;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshotHolder;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Non-blocking variant of {@link LoanService}: the financing objects of the user are looked up asynchronously, then
+ * the limits and products of all of them with one asynchronous bulk call per repository, and the loans are emitted
+ * one by one as they are mapped, each parent loan followed by its child loans, in the same order as the list returned
+ * by {@link LoanService#getLoansByUserId(long)}. With the jdbc backend the queries run on virtual threads, so no
+ * subscriber thread waits for the database.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveLoanService {
+
+    private final RepositorySnapshotHolder repositorySnapshotHolder;
+    private final LoanAssembler loanAssembler;
+    private final Optional<LoanMaterializedView> materializedView;
+
+    public Flux<LoanDto> getLoansByUserId(long userId) {
+        return Flux.defer(() -> {
+            if (materializedView.isPresent()) {
+                return Flux.fromIterable(materializedView.get().findByUserId(userId));
+            }
+            RepositorySnapshot repositories = repositorySnapshotHolder.current();
+            return Mono.fromFuture(() -> repositories.financingObjects().findByOwnerIdAsync(userId))
+                    .flatMapMany(financingObjects -> resolve(repositories, financingObjects));
+        });
+    }
+
+    private Flux<LoanDto> resolve(RepositorySnapshot repositories, List<FinancingObject> financingObjects) {
+        if (financingObjects.isEmpty()) {
+            return Flux.empty();
+        }
+        Mono<List<Limit>> limits = Mono.fromFuture(() -> repositories.limits()
+                .findByIdsAsync(ResolvedFinancingObjects.limitIds(financingObjects)));
+        Mono<List<Product>> products = Mono.fromFuture(() -> repositories.products()
+                .findByIdsAsync(ResolvedFinancingObjects.productIds(financingObjects)));
+
+        return Mono.zip(limits, products)
+                .map(limitsAndProducts -> new ResolvedFinancingObjects(financingObjects, limitsAndProducts.getT1(), limitsAndProducts.getT2()))
+                .flatMapMany(resolved -> Flux.range(0, resolved.size()).concatMap(index -> assemble(resolved, index)));
+    }
+
+    private Flux<LoanDto> assemble(ResolvedFinancingObjects resolved, int index) {
+        FinancingObject financingObject = resolved.financingObject(index);
+        Limit limit = resolved.limit(index);
+        if (limit == null) {
+            return Flux.error(new IllegalStateException(
+                    "Financing object " + financingObject.id() + " references unknown limit " + financingObject.limit()));
+        }
+        List<Product> products = resolved.products(index);
+
+        return Flux.concat(
+                Mono.fromCallable(() -> loanAssembler.assembleParent(financingObject, limit, products)),
+                Flux.fromIterable(products).map(product -> loanAssembler.assembleChild(financingObject, limit, product))
+        );
+    }
+
+}
@@ -0,0 +1,70 @@
+package org.matthiaskarl.techassessment.creditservice.service;
+
+import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
+import org.matthiaskarl.techassessment.creditservice.domain.Limit;
+import org.matthiaskarl.techassessment.creditservice.domain.Product;
+
+import java.util.List;
+
+/**
+ * Financing objects together with their limits and products, as returned by one bulk lookup per repository. The
+ * limits are aligned with the financing objects, and the products of all financing objects are concatenated in the
+ * same order, so no map is needed to hand each financing object its own.
+ */
+public final class ResolvedFinancingObjects {
+
+    private final List<FinancingObject> financingObjects;
+    private final List<Limit> limits;
+    private final List<Product> products;
+    private final int[] productOffsets;
+
+    ResolvedFinancingObjects(List<FinancingObject> financingObjects, List<Limit> limits, List<Product> products) {
+        this.financingObjects = financingObjects;
+        this.limits = limits;
+        this.products = products;
+        this.productOffsets = productOffsets(financingObjects);
+    }
+
+    static long[] limitIds(List<FinancingObject> financingObjects) {
+        long[] limitIds = new long[financingObjects.size()];
+        for (int i = 0; i < limitIds.length; i++) {
+            limitIds[i] = financingObjects.get(i).limit();
+        }
+        return limitIds;
+    }
+
+    static long[] productIds(List<FinancingObject> financingObjects) {
+        int[] offsets = productOffsets(financingObjects);
+        long[] productIds = new long[offsets[financingObjects.size()]];
+        for (int i = 0; i < financingObjects.size(); i++) {
+            long[] ids = financingObjects.get(i).products();
+            System.arraycopy(ids, 0, productIds, offsets[i], ids.length);
+        }
+        return productIds;
+    }
+
+    public int size() {
+        return financingObjects.size();
+    }
+
+    public FinancingObject financingObject(int index) {
+        return financingObjects.get(index);
+    }
+
+    public Limit limit(int index) {
+        return limits.get(index);
+    }
+
+    public List<Product> products(int index) {
+        return products.subList(productOffsets[index], productOffsets[index + 1]);
+    }
+
+    private static int[] productOffsets(List<FinancingObject> financingObjects) {
+        int[] offsets = new int[financingObjects.size() + 1];
+        for (int i = 0; i < financingObjects.size(); i++) {
+            offsets[i + 1] = offsets[i] + financingObjects.get(i).products().length;
+        }
+        return offsets;
+    }
+
+}
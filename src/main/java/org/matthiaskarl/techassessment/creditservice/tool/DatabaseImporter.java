@@ -0,0 +1,25 @@
+package org.matthiaskarl.techassessment.creditservice.tool;
+
+import org.matthiaskarl.techassessment.creditservice.repository.DataFiles;
+import org.matthiaskarl.techassessment.creditservice.repository.jdbc.JdbcImporter;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+/**
+ * Imports data files into the database of the JDBC backend, replacing a previous import.
+ */
+public class DatabaseImporter {
+
+    public static void main(String[] args) throws SQLException {
+        if (args.length != 4) {
+            System.err.println("Usage: DatabaseImporter <jdbc-url> <financing-objects> <limits> <products>");
+            System.exit(1);
+        }
+        try (Connection connection = DriverManager.getConnection(args[0])) {
+            JdbcImporter.importFiles(connection, new DataFiles(args[1], args[2], args[3]));
+        }
+    }
+
+}
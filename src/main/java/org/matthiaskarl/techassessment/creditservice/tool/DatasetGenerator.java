@@ -0,0 +1,187 @@
+package org.matthiaskarl.techassessment.creditservice.tool;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
+import org.matthiaskarl.techassessment.creditservice.domain.Limit;
+import org.matthiaskarl.techassessment.creditservice.domain.Owner;
+import org.matthiaskarl.techassessment.creditservice.domain.Product;
+import org.matthiaskarl.techassessment.creditservice.domain.RealSecurity;
+import org.matthiaskarl.techassessment.creditservice.util.EpochDays;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes synthetic FINANCING_OBJECT, LIMITS and PRODUCTS extracts that repeat the bundled test data {@code scale}
+ * times with the shifted ids of {@link TestDataCopies}, so every reference resolves and products stay shared between financing objects as in the
+ * templates. Each copy also varies the shape of the data: co-owned financing objects, products in other
+ * currencies, empty start and end dates and limits with many real securities. The same seed always produces the
+ * same files. Records are written as they are generated, so memory use does not depend on the scale.
+ */
+public class DatasetGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    private static final double CO_OWNED_RATIO = 0.2;
+    private static final int MAX_ADDITIONAL_OWNERS = 3;
+    private static final double FOREIGN_CURRENCY_RATIO = 0.1;
+    private static final List<String> FOREIGN_CURRENCIES = List.of("EUR", "USD", "GBP");
+    private static final double EMPTY_DATE_RATIO = 0.1;
+    private static final double MANY_SECURITIES_RATIO = 0.05;
+    private static final int MAX_SECURITIES = 50;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final TestDataCopies copies;
+    private final List<RealSecurity> securityTemplates;
+
+    DatasetGenerator(TestDataCopies copies) {
+        this.copies = copies;
+        this.securityTemplates = copies.limits().stream()
+                .filter(limit -> limit.realSecurities() != null)
+                .flatMap(limit -> limit.realSecurities().stream())
+                .toList();
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Usage: DatasetGenerator <output-directory> <scale> [seed]");
+            System.exit(1);
+        }
+        Path directory = Path.of(args[0]);
+        int scale = Integer.parseInt(args[1]);
+        long seed = args.length == 3 ? Long.parseLong(args[2]) : 42L;
+
+        DatasetGenerator generator = new DatasetGenerator(TestDataCopies.bundled());
+        String prefix = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + "_Generated_x" + scale + "_";
+
+        long start = System.nanoTime();
+        generator.generate(scale, seed,
+                directory.resolve(prefix + "FINANCING_OBJECT.json"),
+                directory.resolve(prefix + "LIMITS.json"),
+                directory.resolve(prefix + "PRODUCTS.json")
+        );
+        LOGGER.info("Generated {} copies of the test data with seed {} into {} in {} ms",
+                scale,
+                seed,
+                directory,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+        );
+    }
+
+    void generate(int scale, long seed, Path financingObjectsFile, Path limitsFile, Path productsFile) {
+        SplittableRandom random = new SplittableRandom(seed);
+        try (JsonGenerator financingObjects = open(financingObjectsFile);
+             JsonGenerator limits = open(limitsFile);
+             JsonGenerator products = open(productsFile)) {
+            financingObjects.writeStartArray();
+            limits.writeStartArray();
+            products.writeStartArray();
+            for (int copy = 0; copy < scale; copy++) {
+                for (FinancingObject template : copies.financingObjects()) {
+                    MAPPER.writeValue(financingObjects, financingObject(template, copy, random));
+                }
+                for (Limit template : copies.limits()) {
+                    MAPPER.writeValue(limits, limit(template, copy, random));
+                }
+                for (Product template : copies.products()) {
+                    MAPPER.writeValue(products, product(template, copy, random));
+                }
+            }
+            financingObjects.writeEndArray();
+            limits.writeEndArray();
+            products.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to generate dataset", e);
+        }
+    }
+
+    private FinancingObject financingObject(FinancingObject template, int copy, SplittableRandom random) {
+        FinancingObject shifted = copies.financingObject(template, copy);
+        if (random.nextDouble() >= CO_OWNED_RATIO) {
+            return shifted;
+        }
+        List<Owner> owners = new ArrayList<>(shifted.owners());
+        int additionalOwners = 1 + random.nextInt(MAX_ADDITIONAL_OWNERS);
+        for (int i = 0; i < additionalOwners; i++) {
+            // co-owners may come from any copy generated so far, so owners end up with several financing objects
+            Owner owner = copies.owners().get(random.nextInt(copies.owners().size()));
+            Owner coOwner = copies.owner(owner, random.nextInt(copy + 1));
+            if (!owners.contains(coOwner)) {
+                owners.add(coOwner);
+            }
+        }
+        return new FinancingObject(shifted.id(), owners, shifted.limit(), shifted.products(), shifted.status());
+    }
+
+    private Limit limit(Limit template, int copy, SplittableRandom random) {
+        Limit shifted = copies.limit(template, copy);
+        if (random.nextDouble() >= MANY_SECURITIES_RATIO || securityTemplates.isEmpty()) {
+            return shifted;
+        }
+        List<RealSecurity> realSecurities = new ArrayList<>(template.realSecurities() != null ? template.realSecurities() : List.of());
+        int additionalSecurities = 1 + random.nextInt(MAX_SECURITIES);
+        for (int i = 0; i < additionalSecurities; i++) {
+            realSecurities.add(securityTemplates.get(random.nextInt(securityTemplates.size())));
+        }
+        return new Limit(
+                shifted.id(),
+                shifted.name(),
+                shifted.type(),
+                shifted.limitAmount(),
+                shifted.amortisationAmountAnnual(),
+                shifted.agreedAmortisationFrequency(),
+                shifted.contractNumber(),
+                realSecurities
+        );
+    }
+
+    private Product product(Product template, int copy, SplittableRandom random) {
+        Product shifted = copies.product(template, copy);
+        String currencyCode = random.nextDouble() < FOREIGN_CURRENCY_RATIO
+                ? FOREIGN_CURRENCIES.get(random.nextInt(FOREIGN_CURRENCIES.size()))
+                : template.currencyCode();
+        int startDate = random.nextDouble() < EMPTY_DATE_RATIO ? EpochDays.NONE : template.startDate();
+        int endDate = random.nextDouble() < EMPTY_DATE_RATIO ? EpochDays.NONE : template.endDate();
+        return new Product(
+                shifted.id(),
+                shifted.name(),
+                shifted.type(),
+                shifted.amount(),
+                currencyCode,
+                shifted.interestRate(),
+                startDate,
+                endDate,
+                shifted.productNumber(),
+                shifted.defaultSettlementAccountNumber(),
+                shifted.interestDue(),
+                shifted.isOverdue(),
+                shifted.interestPaymentFrequency()
+        );
+    }
+
+    private static JsonGenerator open(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE);
+        return MAPPER.getFactory().createGenerator(out, JsonEncoding.UTF8);
+    }
+
+}
@@ -0,0 +1,42 @@
+package org.matthiaskarl.techassessment.creditservice.tool;
+
+import org.matthiaskarl.techassessment.creditservice.repository.binary.BinaryFormat;
+import org.matthiaskarl.techassessment.creditservice.repository.binary.BinarySnapshotWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converts JSON extracts into binary snapshots next to them, e.g. {@code 20231214_TestData_PRODUCTS.json} into
+ * {@code 20231214_TestData_PRODUCTS.snap}. The record type is taken from the file name.
+ */
+public class SnapshotConverter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SnapshotConverter.class);
+
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.err.println("Usage: SnapshotConverter <extract.json>...");
+            System.exit(1);
+        }
+        for (String arg : args) {
+            Path source = Path.of(arg);
+            String fileName = source.getFileName().toString();
+            BinaryFormat.RecordType recordType = BinaryFormat.RecordType.forFileName(fileName);
+            Path target = source.resolveSibling(fileName.replaceFirst("\\.json$", "") + BinaryFormat.FILE_EXTENSION);
+
+            long start = System.nanoTime();
+            long count = BinarySnapshotWriter.write(source.toString(), recordType.type(), target);
+            LOGGER.info("Converted {} {} records from {} to {} in {} ms",
+                    count,
+                    recordType,
+                    source,
+                    target,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+            );
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+package org.matthiaskarl.techassessment.creditservice.tool;
+
+import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
+import org.matthiaskarl.techassessment.creditservice.domain.Limit;
+import org.matthiaskarl.techassessment.creditservice.domain.Owner;
+import org.matthiaskarl.techassessment.creditservice.domain.Product;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositoryUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Copies of the bundled test data with consistent ids. Copy {@code n} shifts every id (financing objects, owners,
+ * limits and products) past the largest id of the templates times {@code n}, so references resolve within each copy
+ * and owners do not accumulate financing objects across copies. Strings and real securities are shared between
+ * copies. Used by the {@link DatasetGenerator} and the benchmark datasets.
+ */
+public final class TestDataCopies {
+
+    public static final String FINANCING_OBJECTS = "classpath:20231210_TestData_FINANCING_OBJECT.json";
+    public static final String LIMITS = "classpath:20231214_TestData_LIMITS.json";
+    public static final String PRODUCTS = "classpath:20231214_TestData_PRODUCTS.json";
+
+    private final List<FinancingObject> financingObjects;
+    private final List<Limit> limits;
+    private final List<Product> products;
+    private final List<Owner> owners;
+
+    private final long financingObjectStride;
+    private final long ownerStride;
+    private final long limitStride;
+    private final long productStride;
+
+    public TestDataCopies(List<FinancingObject> financingObjects, List<Limit> limits, List<Product> products) {
+        this.financingObjects = financingObjects;
+        this.limits = limits;
+        this.products = products;
+        this.owners = financingObjects.stream()
+                .flatMap(financingObject -> financingObject.owners().stream())
+                .distinct()
+                .toList();
+        this.financingObjectStride = stride(financingObjects, FinancingObject::id);
+        this.ownerStride = stride(owners, Owner::id);
+        this.limitStride = stride(limits, Limit::id);
+        this.productStride = stride(products, Product::id);
+    }
+
+    public static TestDataCopies bundled() {
+        return new TestDataCopies(
+                RepositoryUtils.readList(FINANCING_OBJECTS, FinancingObject.class),
+                RepositoryUtils.readList(LIMITS, Limit.class),
+                RepositoryUtils.readList(PRODUCTS, Product.class)
+        );
+    }
+
+    public List<FinancingObject> financingObjects() {
+        return financingObjects;
+    }
+
+    public List<Limit> limits() {
+        return limits;
+    }
+
+    public List<Product> products() {
+        return products;
+    }
+
+    /**
+     * The distinct owners of the templates, in order of their first appearance.
+     */
+    public List<Owner> owners() {
+        return owners;
+    }
+
+    public Owner owner(Owner template, int copy) {
+        return new Owner(template.id() + copy * ownerStride, template.name());
+    }
+
+    public FinancingObject financingObject(FinancingObject template, int copy) {
+        List<Owner> owners = new ArrayList<>(template.owners().size());
+        for (Owner owner : template.owners()) {
+            owners.add(owner(owner, copy));
+        }
+        return new FinancingObject(
+                template.id() + copy * financingObjectStride,
+                owners,
+                template.limit() + copy * limitStride,
+                Arrays.stream(template.products()).map(id -> id + copy * productStride).toArray(),
+                template.status()
+        );
+    }
+
+    public Limit limit(Limit template, int copy) {
+        return new Limit(
+                template.id() + copy * limitStride,
+                template.name(),
+                template.type(),
+                template.limitAmount(),
+                template.amortisationAmountAnnual(),
+                template.agreedAmortisationFrequency(),
+                template.contractNumber(),
+                template.realSecurities()
+        );
+    }
+
+    public Product product(Product template, int copy) {
+        return new Product(
+                template.id() + copy * productStride,
+                template.name(),
+                template.type(),
+                template.amount(),
+                template.currencyCode(),
+                template.interestRate(),
+                template.startDate(),
+                template.endDate(),
+                template.productNumber(),
+                template.defaultSettlementAccountNumber(),
+                template.interestDue(),
+                template.isOverdue(),
+                template.interestPaymentFrequency()
+        );
+    }
+
+    private static <T> long stride(List<T> values, ToLongFunction<T> id) {
+        return values.stream().mapToLong(id).max().orElse(0) + 1;
+    }
+
+}
@@ -0,0 +1,110 @@
+package org.matthiaskarl.techassessment.creditservice.util;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Dates held as {@code int} days since 1970-01-01, parsed once from the {@code dd.MM.yyyy} strings of the data
+ * files, with {@link #NONE} standing for an empty date. The ISO formatting methods write the characters directly and
+ * produce exactly what {@link DateTimeFormatter#ISO_DATE} produces.
+ */
+public final class EpochDays {
+
+    public static final int NONE = Integer.MIN_VALUE;
+
+    public static final DateTimeFormatter SOURCE_FORMATTER = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+
+    private static final String START_OF_DAY_UTC = "T00:00:00.000Z";
+    private static final int ISO_DATE_LENGTH = 10;
+
+    // days from 0000-03-01 to 1970-01-01 and per 400 year era, see civil_from_days by Howard Hinnant
+    private static final int DAYS_0000_TO_1970 = 719_468;
+    private static final int DAYS_PER_ERA = 146_097;
+
+    private EpochDays() {
+        throw new UnsupportedOperationException("This utility class is not mean to be instantiated");
+    }
+
+    public static boolean isPresent(int epochDay) {
+        return epochDay != NONE;
+    }
+
+    /**
+     * @return the epoch day of a {@code dd.MM.yyyy} date, {@link #NONE} for {@code null} or blank values
+     */
+    public static int parseSource(String value) {
+        if (value == null || value.isBlank()) {
+            return NONE;
+        }
+        return Math.toIntExact(LocalDate.parse(value, SOURCE_FORMATTER).toEpochDay());
+    }
+
+    /**
+     * @return the date as {@code dd.MM.yyyy}, an empty string for {@link #NONE}
+     */
+    public static String formatSource(int epochDay) {
+        return isPresent(epochDay) ? LocalDate.ofEpochDay(epochDay).format(SOURCE_FORMATTER) : "";
+    }
+
+    /**
+     * @return the date as {@code yyyy-MM-dd}, an empty string for {@link #NONE}
+     */
+    public static String formatIsoDate(int epochDay) {
+        if (!isPresent(epochDay)) {
+            return "";
+        }
+        char[] chars = new char[ISO_DATE_LENGTH];
+        return writeIsoDate(epochDay, chars) ? new String(chars) : LocalDate.ofEpochDay(epochDay).format(DateTimeFormatter.ISO_DATE);
+    }
+
+    /**
+     * @return the start of the day in UTC as {@code yyyy-MM-ddT00:00:00.000Z}, an empty string for {@link #NONE}
+     */
+    public static String formatIsoDateTime(int epochDay) {
+        if (!isPresent(epochDay)) {
+            return "";
+        }
+        char[] chars = new char[ISO_DATE_LENGTH + START_OF_DAY_UTC.length()];
+        if (!writeIsoDate(epochDay, chars)) {
+            return LocalDate.ofEpochDay(epochDay).format(DateTimeFormatter.ISO_DATE) + START_OF_DAY_UTC;
+        }
+        START_OF_DAY_UTC.getChars(0, START_OF_DAY_UTC.length(), chars, ISO_DATE_LENGTH);
+        return new String(chars);
+    }
+
+    /**
+     * Writes {@code yyyy-MM-dd} into the first ten chars. Returns {@code false} for years outside 0..9999, which
+     * ISO formatting prints with a sign.
+     */
+    private static boolean writeIsoDate(int epochDay, char[] chars) {
+        long days = (long) epochDay + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(days, DAYS_PER_ERA);
+        long dayOfEra = days - era * DAYS_PER_ERA;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+        int month = (int) (shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < 0 || year > 9999) {
+            return false;
+        }
+        int y = (int) year;
+        chars[0] = digit(y / 1000);
+        chars[1] = digit(y / 100 % 10);
+        chars[2] = digit(y / 10 % 10);
+        chars[3] = digit(y % 10);
+        chars[4] = '-';
+        chars[5] = digit(month / 10);
+        chars[6] = digit(month % 10);
+        chars[7] = '-';
+        chars[8] = digit(day / 10);
+        chars[9] = digit(day % 10);
+        return true;
+    }
+
+    private static char digit(int value) {
+        return (char) ('0' + value);
+    }
+
+}
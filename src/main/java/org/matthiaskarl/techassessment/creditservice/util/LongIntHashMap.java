@@ -0,0 +1,107 @@
+package org.matthiaskarl.techassessment.creditservice.util;
+
+/**
+ * Open-addressing hash map from primitive {@code long} keys to primitive {@code int} values, e.g. ids to row
+ * numbers. {@link #get(long)} returns {@link #MISSING} for absent keys. Not thread-safe; build it once and publish it
+ * safely before reading concurrently.
+ */
+public class LongIntHashMap {
+
+    public static final int MISSING = -1;
+
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final long FREE_KEY = 0L;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    private boolean hasFreeKey;
+    private int freeKeyValue = MISSING;
+
+    public LongIntHashMap(int expectedSize) {
+        int capacity = LongObjectHashMap.tableSizeFor(expectedSize);
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+        this.resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    public int get(long key) {
+        if (key == FREE_KEY) {
+            return hasFreeKey ? freeKeyValue : MISSING;
+        }
+        int index = slot(key);
+        while (true) {
+            long candidate = keys[index];
+            if (candidate == key) {
+                return values[index];
+            }
+            if (candidate == FREE_KEY) {
+                return MISSING;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    public int put(long key, int value) {
+        if (key == FREE_KEY) {
+            int previous = freeKeyValue;
+            if (!hasFreeKey) {
+                hasFreeKey = true;
+                size++;
+            }
+            freeKeyValue = value;
+            return previous;
+        }
+        int index = slot(key);
+        while (true) {
+            long candidate = keys[index];
+            if (candidate == key) {
+                int previous = values[index];
+                values[index] = value;
+                return previous;
+            }
+            if (candidate == FREE_KEY) {
+                keys[index] = key;
+                values[index] = value;
+                if (++size > resizeThreshold) {
+                    rehash(keys.length << 1);
+                }
+                return MISSING;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[newCapacity];
+        values = new int[newCapacity];
+        mask = newCapacity - 1;
+        resizeThreshold = (int) (newCapacity * LOAD_FACTOR);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != FREE_KEY) {
+                int index = slot(key);
+                while (keys[index] != FREE_KEY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private int slot(long key) {
+        return (int) LongObjectHashMap.mix(key) & mask;
+    }
+
+}
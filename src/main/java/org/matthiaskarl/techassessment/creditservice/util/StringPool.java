@@ -0,0 +1,83 @@
+package org.matthiaskarl.techassessment.creditservice.util;
+
+/**
+ * Bounded, lossy pool of canonical strings: a fixed table of slots indexed by hash, where a new value simply
+ * replaces whatever occupied its slot. Frequently repeated values (currency codes, types, statuses) therefore stay
+ * pooled, while a stream of unique values costs nothing but evictions. Lookups by character range return the pooled
+ * instance without creating a {@code String} on a hit.
+ * <p>
+ * Safe for concurrent use without locking: a racing thread may miss a pooled value or evict one, which only costs
+ * a duplicate, and strings are immutable so a published slot is always seen complete.
+ */
+public final class StringPool {
+
+    private final String[] slots;
+    private final int mask;
+    private final int maxLength;
+
+    /**
+     * @param capacity  number of slots, rounded up to a power of two
+     * @param maxLength longer values are returned as they are and never pooled
+     */
+    public StringPool(int capacity, int maxLength) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30, got " + capacity);
+        }
+        this.slots = new String[capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1];
+        this.mask = slots.length - 1;
+        this.maxLength = maxLength;
+    }
+
+    public String canonicalize(String value) {
+        if (value == null || value.length() > maxLength) {
+            return value;
+        }
+        int slot = slot(value.hashCode());
+        String pooled = slots[slot];
+        if (value.equals(pooled)) {
+            return pooled;
+        }
+        slots[slot] = value;
+        return value;
+    }
+
+    public String canonicalize(char[] chars, int offset, int length) {
+        if (length > maxLength) {
+            return new String(chars, offset, length);
+        }
+        // same hash as String.hashCode, so both lookups agree on the slot
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int slot = slot(hash);
+        String pooled = slots[slot];
+        if (pooled != null && contentEquals(pooled, chars, offset, length)) {
+            return pooled;
+        }
+        String value = new String(chars, offset, length);
+        slots[slot] = value;
+        return value;
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    private int slot(int hash) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static boolean contentEquals(String pooled, char[] chars, int offset, int length) {
+        if (pooled.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (pooled.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,49 @@
+package org.matthiaskarl.techassessment.creditservice;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.matthiaskarl.techassessment.creditservice.service.LoanService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.matthiaskarl.techassessment.creditservice.ContractTestUtil.*;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "credit-service.loans.direct-json=true"
+)
+class DirectJsonContractShapeTest {
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    LoanService loanService;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @ParameterizedTest
+    @MethodSource("org.matthiaskarl.techassessment.creditservice.ContractTestUtil#getUserIds")
+    void direct_writer_matches_contract_and_dto_serialization_byte_for_byte(String userId) throws Exception {
+        Response response = RestAssured.given()
+                .get("http://localhost:" + port + "/service/v1/loansByUser/" + userId);
+
+        assertThat(response.contentType()).startsWith("application/json");
+        JsonNode loans = MAPPER.readTree(response.asString());
+        assertThat(loans.size()).isGreaterThan(0);
+        for (JsonNode loan : loans) {
+            ContractShapeTest.validateLoanShape(loan);
+        }
+
+        byte[] expected = objectMapper.writeValueAsBytes(loanService.getLoansByUserId(Long.parseLong(userId)));
+        assertThat(response.asByteArray()).isEqualTo(expected);
+    }
+
+}
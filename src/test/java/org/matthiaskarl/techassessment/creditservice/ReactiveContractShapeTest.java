@@ -0,0 +1,56 @@
+package org.matthiaskarl.techassessment.creditservice;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.matthiaskarl.techassessment.creditservice.ContractTestUtil.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ReactiveContractShapeTest {
+
+    private static final String USER_ID = "11110039";
+
+    @LocalServerPort
+    int port;
+
+    @ParameterizedTest
+    @MethodSource("org.matthiaskarl.techassessment.creditservice.ContractTestUtil#getUserIds")
+    void reactive_loansByUser_matches_contract_and_blocking_endpoint(String userId) throws Exception {
+        Response response = RestAssured.given()
+                .accept("application/json")
+                .get(url(userId));
+        JsonNode loans = MAPPER.readTree(response.asString());
+        assertThat(loans.size()).isGreaterThan(0);
+
+        for (JsonNode loan : loans) {
+            ContractShapeTest.validateLoanShape(loan);
+        }
+        assertThat(loans).isEqualTo(fetchLoans(port, userId));
+    }
+
+    @Test
+    void streams_one_loan_per_line_as_ndjson() throws Exception {
+        Response response = RestAssured.given()
+                .accept("application/x-ndjson")
+                .get(url(USER_ID));
+
+        assertThat(response.contentType()).startsWith("application/x-ndjson");
+        String[] lines = response.asString().split("\n");
+        assertThat(lines).hasSize(fetchLoans(port, USER_ID).size());
+        for (String line : lines) {
+            ContractShapeTest.validateLoanShape(MAPPER.readTree(line));
+        }
+    }
+
+    private String url(String userId) {
+        return "http://localhost:" + port + "/service/v1/reactive/loansByUser/" + userId;
+    }
+
+}
@@ -0,0 +1,90 @@
+package org.matthiaskarl.techassessment.creditservice.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.matthiaskarl.techassessment.creditservice.domain.Limit;
+import org.matthiaskarl.techassessment.creditservice.mapping.AnnualFrequencyMapper;
+import org.matthiaskarl.techassessment.creditservice.mapping.ChildLoanMapper;
+import org.matthiaskarl.techassessment.creditservice.mapping.CollateralCache;
+import org.matthiaskarl.techassessment.creditservice.mapping.LoanJsonWriter;
+import org.matthiaskarl.techassessment.creditservice.mapping.ParentLoanMapper;
+import org.matthiaskarl.techassessment.creditservice.repository.InMemoryFinancingObjectRepository;
+import org.matthiaskarl.techassessment.creditservice.repository.InMemoryProductsRepository;
+import org.matthiaskarl.techassessment.creditservice.repository.LimitsRepository;
+import org.matthiaskarl.techassessment.creditservice.repository.ProductStorage;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshot;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshotHolder;
+import org.matthiaskarl.techassessment.creditservice.service.DirectLoanWriter;
+import org.matthiaskarl.techassessment.creditservice.service.LoanAssembler;
+import org.matthiaskarl.techassessment.creditservice.service.LoanMetrics;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DirectJsonErrorTest {
+
+    private static final String USER_ID = "11110001";
+
+    @Test
+    void aFailureWhileEncodingLeavesTheResponseUntouchedForTheErrorHandler() {
+        LoanMetrics loanMetrics = new LoanMetrics(new SimpleMeterRegistry());
+        CollateralCache collateralCache = new CollateralCache();
+        AnnualFrequencyMapper annualFrequencyMapper = new AnnualFrequencyMapper();
+        RepositorySnapshot withoutLimits = new RepositorySnapshot(
+                InMemoryFinancingObjectRepository.load("classpath:20231210_TestData_FINANCING_OBJECT.json"),
+                new UnknownLimitsRepository(),
+                InMemoryProductsRepository.load("classpath:20231214_TestData_PRODUCTS.json", ProductStorage.HEAP),
+                null
+        );
+        DirectLoanWriter directLoanWriter = new DirectLoanWriter(
+                new RepositorySnapshotHolder(withoutLimits, event -> {
+                }),
+                new LoanAssembler(
+                        new ParentLoanMapper(collateralCache),
+                        new ChildLoanMapper(annualFrequencyMapper, collateralCache),
+                        loanMetrics
+                ),
+                new LoanJsonWriter(annualFrequencyMapper),
+                new ObjectMapper(),
+                Optional.empty(),
+                loanMetrics
+        );
+        LoansController controller = new LoansController(null, null, Optional.empty(), null, null, Optional.of(directLoanWriter));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> controller.loansByUser(USER_ID, new MockHttpServletRequest(), response))
+                .isInstanceOf(NullPointerException.class);
+        assertThat(response.isCommitted()).isFalse();
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    private static class UnknownLimitsRepository implements LimitsRepository {
+
+        @Override
+        public Limit findById(long id) {
+            return null;
+        }
+
+        @Override
+        public List<Limit> findByIds(long[] ids) {
+            List<Limit> limits = new ArrayList<>(ids.length);
+            for (long ignored : ids) {
+                limits.add(null);
+            }
+            return limits;
+        }
+
+        @Override
+        public int size() {
+            return 0;
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package org.matthiaskarl.techassessment.creditservice.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Test;
+import org.matthiaskarl.techassessment.creditservice.repository.FinancingObjectRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LoanExportTest {
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    FinancingObjectRepository financingObjectRepository;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    void exportsEveryFinancingObjectOnceAsNdjson() throws Exception {
+        Response response = RestAssured.get(url(""));
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.contentType()).startsWith("application/x-ndjson");
+        assertThat(response.asString()).endsWith("\n");
+
+        List<JsonNode> loans = parse(response);
+        int[] expected = {0};
+        financingObjectRepository.forEach(financingObject -> expected[0] += 1 + financingObject.products().length);
+        assertThat(loans).hasSize(expected[0]);
+    }
+
+    @Test
+    void filtersByStatusAndCurrencyCode() throws Exception {
+        List<JsonNode> loans = parse(RestAssured.get(url("?status=active&currencyCode=CHF")));
+
+        assertThat(loans).isNotEmpty().allSatisfy(loan -> {
+            assertThat(loan.get("loanStatus").asText()).isEqualTo("active");
+            assertThat(loan.get("currencyCode").asText()).isEqualTo("CHF");
+        });
+        assertThat(parse(RestAssured.get(url("?currencyCode=XXX")))).isEmpty();
+    }
+
+    private List<JsonNode> parse(Response response) throws Exception {
+        List<JsonNode> loans = new ArrayList<>();
+        for (String line : response.asString().split("\n")) {
+            if (!line.isEmpty()) {
+                loans.add(objectMapper.readTree(line));
+            }
+        }
+        return loans;
+    }
+
+    private String url(String query) {
+        return "http://localhost:" + port + "/service/v1/loans/export" + query;
+    }
+
+}
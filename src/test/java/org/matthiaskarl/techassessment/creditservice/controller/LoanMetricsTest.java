@@ -0,0 +1,72 @@
+package org.matthiaskarl.techassessment.creditservice.controller;
+
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LoanMetricsTest {
+
+    private static final Pattern SERIALIZE_COUNT =
+            Pattern.compile("loans_stage_seconds_count\\{[^}]*stage=\"serialize\"[^}]*} (\\S+)");
+
+    @LocalServerPort
+    int port;
+
+    @Test
+    void exposesStageTimersAndRequestSizesInPrometheusFormat() {
+        Response loans = RestAssured.given().get(url("/service/v1/loansByUser/11110039"));
+        assertThat(loans.statusCode()).isEqualTo(200);
+
+        Response metrics = RestAssured.given().get(url("/actuator/prometheus"));
+
+        assertThat(metrics.statusCode()).isEqualTo(200);
+        String body = metrics.asString();
+        for (String stage : new String[]{"findByOwnerId", "findLimit", "findProducts", "mapParent", "mapChild", "serialize"}) {
+            assertThat(body).containsPattern("loans_stage_seconds_count\\{[^}]*stage=\"" + stage + "\"[^}]*} [1-9]");
+            assertThat(body).containsPattern("loans_stage_seconds_bucket\\{[^}]*stage=\"" + stage + "\"");
+        }
+        assertThat(body).containsPattern("loans_user_financing_objects_count\\{[^}]*} [1-9]");
+        assertThat(body).containsPattern("loans_user_products_count\\{[^}]*} [1-9]");
+    }
+
+    @Test
+    void recordsSerializationOnlyForLoansByUser() {
+        double before = serializeCount();
+
+        RestAssured.given().contentType("application/json").body("[11110039]").post(url("/service/v1/loansByUsers"));
+        RestAssured.given().get(url("/service/v1/reactive/loansByUser/11110039")).asString();
+        assertThat(serializeCount()).isEqualTo(before);
+
+        RestAssured.given().get(url("/service/v1/loansByUser/11110039"));
+        assertThat(serializeCount()).isEqualTo(before + 1);
+    }
+
+    @Test
+    void rejectsAnUnsupportedMediaTypeWithoutSerializing() {
+        double before = serializeCount();
+
+        Response loans = RestAssured.given().accept("application/xml").get(url("/service/v1/loansByUser/11110039"));
+
+        assertThat(loans.statusCode()).isEqualTo(406);
+        assertThat(serializeCount()).isEqualTo(before);
+    }
+
+    private double serializeCount() {
+        String body = RestAssured.given().get(url("/actuator/prometheus")).asString();
+        Matcher count = SERIALIZE_COUNT.matcher(body);
+        return count.find() ? Double.parseDouble(count.group(1)) : 0;
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + port + path;
+    }
+
+}
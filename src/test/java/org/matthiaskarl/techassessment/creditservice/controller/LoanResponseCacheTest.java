@@ -0,0 +1,73 @@
+package org.matthiaskarl.techassessment.creditservice.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Test;
+import org.matthiaskarl.techassessment.creditservice.service.LoanService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "credit-service.response-cache.enabled=true"
+)
+class LoanResponseCacheTest {
+
+    private static final String USER_ID = "11110039";
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    LoanService loanService;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    void servesSameJsonAsJacksonWithEtag() throws Exception {
+        Response response = get(null);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.header("ETag")).isNotBlank();
+        assertThat(response.asString())
+                .isEqualTo(objectMapper.writeValueAsString(loanService.getLoansByUserId(Long.parseLong(USER_ID))));
+    }
+
+    @Test
+    void answersNotModifiedForMatchingEtag() {
+        String etag = get(null).header("ETag");
+
+        Response response = get(etag);
+
+        assertThat(response.statusCode()).isEqualTo(304);
+        assertThat(response.asString()).isEmpty();
+    }
+
+    @Test
+    void compressesWhenClientAcceptsGzip() {
+        Response response = RestAssured.given()
+                .header("Accept-Encoding", "gzip")
+                .get(url());
+
+        assertThat(response.header("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.asString()).isEqualTo(get(null).asString());
+    }
+
+    private Response get(String ifNoneMatch) {
+        var request = RestAssured.given().header("Accept-Encoding", "identity");
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+        return request.get(url());
+    }
+
+    private String url() {
+        return "http://localhost:" + port + "/service/v1/loansByUser/" + USER_ID;
+    }
+
+}
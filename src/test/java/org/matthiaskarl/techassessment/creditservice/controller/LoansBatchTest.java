@@ -0,0 +1,66 @@
+package org.matthiaskarl.techassessment.creditservice.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Test;
+import org.matthiaskarl.techassessment.creditservice.service.LoanService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "credit-service.batch.max-size=3"
+)
+class LoansBatchTest {
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    LoanService loanService;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    void returnsTheSameLoansAsSingleRequestsGroupedByUser() throws Exception {
+        Response response = post("[11110039, 11110001, 11110039]");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        JsonNode loansByUser = objectMapper.readTree(response.asString());
+        assertThat(loansByUser.fieldNames()).toIterable().containsExactly("11110039", "11110001");
+        for (String userId : List.of("11110039", "11110001")) {
+            assertThat(loansByUser.get(userId))
+                    .isEqualTo(objectMapper.valueToTree(loanService.getLoansByUserId(Long.parseLong(userId))));
+        }
+    }
+
+    @Test
+    void returnsEmptyListForUnknownUser() throws Exception {
+        JsonNode loansByUser = objectMapper.readTree(post("[42]").asString());
+
+        assertThat(loansByUser.get("42").isEmpty()).isTrue();
+    }
+
+    @Test
+    void rejectsBatchesAboveTheMaximumSize() {
+        Response response = post("[11110001, 11110002, 11110003, 11110004]");
+
+        assertThat(response.statusCode()).isEqualTo(400);
+    }
+
+    private Response post(String body) {
+        return RestAssured.given()
+                .contentType("application/json")
+                .body(body)
+                .post("http://localhost:" + port + "/service/v1/loansByUsers");
+    }
+
+}
@@ -0,0 +1,35 @@
+package org.matthiaskarl.techassessment.creditservice.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FinancingObjectTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String JSON = """
+            {"id":1,"owners":[{"id":11110001,"name":"Jane Doe"}],"limit":7,"products":[101,102],"status":"active"}""";
+
+    @Test
+    void keepsProductIdsAsJsonArrayOfNumbers() throws Exception {
+        FinancingObject financingObject = MAPPER.readValue(JSON, FinancingObject.class);
+
+        assertThat(financingObject.products()).containsExactly(101L, 102L);
+        assertThat(MAPPER.writeValueAsString(financingObject)).isEqualTo(JSON);
+    }
+
+    @Test
+    void comparesProductIdsByContent() {
+        List<Owner> owners = List.of(new Owner(11110001, "Jane Doe"));
+        FinancingObject financingObject = new FinancingObject(1, owners, 7, new long[]{101, 102}, "active");
+        FinancingObject copy = new FinancingObject(1, owners, 7, new long[]{101, 102}, "active");
+
+        assertThat(copy).isEqualTo(financingObject).hasSameHashCodeAs(financingObject);
+        assertThat(copy.toString()).contains("products=[101, 102]");
+    }
+
+}
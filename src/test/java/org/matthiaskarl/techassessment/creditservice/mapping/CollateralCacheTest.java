@@ -0,0 +1,77 @@
+package org.matthiaskarl.techassessment.creditservice.mapping;
+
+import org.junit.jupiter.api.Test;
+import org.matthiaskarl.techassessment.creditservice.domain.Limit;
+import org.matthiaskarl.techassessment.creditservice.domain.RealSecurity;
+import org.matthiaskarl.techassessment.creditservice.dto.CollateralDto;
+import org.matthiaskarl.techassessment.creditservice.util.EpochDays;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CollateralCacheTest {
+
+    private final CollateralCache collateralCache = new CollateralCache();
+    private final ParentLoanMapper parentLoanMapper = new ParentLoanMapper(collateralCache);
+    private final ChildLoanMapper childLoanMapper = new ChildLoanMapper(new AnnualFrequencyMapper(), collateralCache);
+
+    @Test
+    void reusesTheMappedListForTheSameLimit() {
+        Limit limit = limit();
+
+        List<CollateralDto> first = collateralCache.forChild(limit, childLoanMapper::mapCollaterals);
+        List<CollateralDto> second = collateralCache.forChild(limit, childLoanMapper::mapCollaterals);
+
+        assertThat(second).isSameAs(first).isEqualTo(childLoanMapper.mapCollaterals(limit));
+    }
+
+    @Test
+    void keepsParentAndChildCollateralsApart() {
+        Limit limit = limit();
+
+        List<CollateralDto> child = collateralCache.forChild(limit, childLoanMapper::mapCollaterals);
+        List<CollateralDto> parent = collateralCache.forParent(limit, parentLoanMapper::mapCollaterals);
+
+        assertThat(parent).isEqualTo(parentLoanMapper.mapCollaterals(limit));
+        assertThat(parent.getFirst().amortisationPaymentAmount()).isEqualTo("1500.00");
+        assertThat(child.getFirst().amortisationPaymentAmount()).isNull();
+    }
+
+    @Test
+    void reusesTheMappedListForAnEqualLimitInstance() {
+        List<CollateralDto> first = collateralCache.forParent(limit(), parentLoanMapper::mapCollaterals);
+
+        assertThat(collateralCache.forParent(limit(), parentLoanMapper::mapCollaterals)).isSameAs(first);
+    }
+
+    @Test
+    void remapsALimitWithTheSameIdWhoseContentChanged() {
+        Limit limit = limit();
+        List<CollateralDto> before = collateralCache.forParent(limit, parentLoanMapper::mapCollaterals);
+
+        Limit changed = new Limit(limit.id(), limit.name(), limit.type(), limit.limitAmount(), 12000,
+                limit.agreedAmortisationFrequency(), limit.contractNumber(), limit.realSecurities());
+        List<CollateralDto> after = collateralCache.forParent(changed, parentLoanMapper::mapCollaterals);
+
+        assertThat(after).isNotSameAs(before).isEqualTo(parentLoanMapper.mapCollaterals(changed));
+        assertThat(after.getFirst().amortisationPaymentAmount()).isEqualTo("3000.00");
+        assertThat(collateralCache.forParent(changed, parentLoanMapper::mapCollaterals)).isSameAs(after);
+    }
+
+    @Test
+    void invalidateAllDropsEveryEntry() {
+        Limit limit = limit();
+        List<CollateralDto> before = collateralCache.forParent(limit, parentLoanMapper::mapCollaterals);
+
+        collateralCache.invalidateAll();
+
+        assertThat(collateralCache.forParent(limit, parentLoanMapper::mapCollaterals)).isNotSameAs(before);
+    }
+
+    private static Limit limit() {
+        RealSecurity realSecurity = new RealSecurity("Bauland", "Feldweg 808, 7072 Chur", 1080000, "CHF", EpochDays.parseSource("31.03.2026"));
+        return new Limit(200001, "Basiskredit Darlehen", "Darlehen", 1000000, 6000, 4, "2000-00001.11", List.of(realSecurity));
+    }
+
+}
@@ -0,0 +1,79 @@
+package org.matthiaskarl.techassessment.creditservice.mapping;
+
+import org.junit.jupiter.api.Test;
+import org.matthiaskarl.techassessment.creditservice.domain.Product;
+import org.matthiaskarl.techassessment.creditservice.util.EpochDays;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParentLoanAggregateTest {
+
+    @Test
+    void aggregatesProductsOfTheSameCurrency() {
+        ParentLoanAggregate aggregate = ParentLoanAggregate.of(List.of(
+                product("CHF", 120_000, 1.5, false, date(2020, 1, 1), date(2030, 12, 31)),
+                product("CHF", 85_000, 0.75, true, date(2019, 4, 14), date(2028, 6, 30))
+        ));
+
+        assertThat(aggregate.currencyCodeText()).isEqualTo("CHF");
+        assertThat(aggregate.outstandingAmountText()).isEqualTo("205000");
+        assertThat(aggregate.interestDueText()).isEqualTo("0.75");
+        assertThat(aggregate.anyOverdue()).isTrue();
+        assertThat(aggregate.startDateText()).isEqualTo("2019-04-14T00:00:00.000Z");
+        assertThat(aggregate.endDateText()).isEqualTo("2030-12-31T00:00:00.000Z");
+    }
+
+    @Test
+    void leavesCurrencyAndAmountEmptyForMixedCurrencies() {
+        ParentLoanAggregate aggregate = ParentLoanAggregate.of(List.of(
+                product("CHF", 120_000, 1.5, false, date(2020, 1, 1), date(2030, 12, 31)),
+                product("EUR", 85_000, 0.75, false, date(2019, 4, 14), date(2028, 6, 30))
+        ));
+
+        assertThat(aggregate.currencyCodeText()).isEmpty();
+        assertThat(aggregate.outstandingAmountText()).isEmpty();
+        assertThat(aggregate.interestDueText()).isEqualTo("0.75");
+    }
+
+    @Test
+    void ignoresMissingDates() {
+        ParentLoanAggregate aggregate = ParentLoanAggregate.of(List.of(
+                product("CHF", 1, 1.0, false, EpochDays.NONE, date(2030, 12, 31)),
+                product("CHF", 1, 1.0, false, date(2019, 4, 14), EpochDays.NONE)
+        ));
+        assertThat(aggregate.startDateText()).isEqualTo("2019-04-14T00:00:00.000Z");
+        assertThat(aggregate.endDateText()).isEqualTo("2030-12-31T00:00:00.000Z");
+
+        ParentLoanAggregate withoutDates = ParentLoanAggregate.of(List.of(
+                product("CHF", 1, 1.0, false, EpochDays.NONE, EpochDays.NONE)
+        ));
+        assertThat(withoutDates.startDateText()).isEmpty();
+        assertThat(withoutDates.endDateText()).isEmpty();
+    }
+
+    @Test
+    void leavesEverythingEmptyWithoutProducts() {
+        ParentLoanAggregate aggregate = ParentLoanAggregate.of(List.of());
+
+        assertThat(aggregate.currencyCodeText()).isEmpty();
+        assertThat(aggregate.outstandingAmountText()).isEmpty();
+        assertThat(aggregate.interestDueText()).isEmpty();
+        assertThat(aggregate.anyOverdue()).isFalse();
+        assertThat(aggregate.startDateText()).isEmpty();
+        assertThat(aggregate.endDateText()).isEmpty();
+    }
+
+    private static Product product(String currencyCode, long amount, double interestDue, boolean overdue,
+                                   int startDate, int endDate) {
+        return new Product(1L, "Product", "Mortgage", amount, currencyCode, 1.0, startDate, endDate,
+                "P-1", "CH00", interestDue, overdue, 4);
+    }
+
+    private static int date(int year, int month, int day) {
+        return (int) LocalDate.of(year, month, day).toEpochDay();
+    }
+
+}
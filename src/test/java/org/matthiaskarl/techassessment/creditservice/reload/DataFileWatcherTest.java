@@ -0,0 +1,70 @@
+package org.matthiaskarl.techassessment.creditservice.reload;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshot;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshotHolder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "credit-service.reload.enabled=true",
+        "credit-service.reload.settle-delay=100ms"
+})
+@DirtiesContext
+class DataFileWatcherTest {
+
+    @TempDir
+    static Path directory;
+
+    @DynamicPropertySource
+    static void reloadDirectory(DynamicPropertyRegistry registry) {
+        registry.add("credit-service.reload.directory", () -> directory.toString());
+    }
+
+    @Autowired
+    RepositorySnapshotHolder repositorySnapshotHolder;
+
+    @Test
+    void swapsInNewerExtractAndKeepsTheOthers() throws Exception {
+        RepositorySnapshot initial = repositorySnapshotHolder.current();
+
+        publish("20231214_TestData_PRODUCTS.json", "20240101_TestData_PRODUCTS.json");
+
+        RepositorySnapshot reloaded = awaitSwap(initial);
+        assertThat(reloaded.files().products()).endsWith("20240101_TestData_PRODUCTS.json");
+        assertThat(reloaded.files().limits()).isEqualTo(initial.files().limits());
+        assertThat(reloaded.files().financingObjects()).isEqualTo(initial.files().financingObjects());
+        assertThat(reloaded.products().size()).isEqualTo(initial.products().size());
+    }
+
+    private static void publish(String resource, String fileName) throws Exception {
+        // write into the watched directory under a name without the yyyyMMdd_ prefix, which the watcher ignores, and
+        // move it into place, the same way an extract should be dropped into the directory
+        Path temporary = Files.createTempFile(directory, "staging-", ".tmp");
+        try (InputStream in = new ClassPathResource(resource).getInputStream()) {
+            Files.copy(in, temporary, StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.move(temporary, directory.resolve(fileName), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private RepositorySnapshot awaitSwap(RepositorySnapshot initial) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 20_000;
+        while (repositorySnapshotHolder.current() == initial && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        return repositorySnapshotHolder.current();
+    }
+
+}
@@ -0,0 +1,42 @@
+package org.matthiaskarl.techassessment.creditservice.repository;
+
+import org.junit.jupiter.api.Test;
+import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
+import org.matthiaskarl.techassessment.creditservice.domain.Product;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CanonicalStringsModuleTest {
+
+    @Test
+    void repeatedProductValuesAreTheSameInstanceAcrossRecords() {
+        List<Product> products = new ArrayList<>();
+        RepositoryUtils.stream("classpath:20231214_TestData_PRODUCTS.json", Product.class, products::add);
+
+        assertSharedInstances(products.stream().map(Product::currencyCode).toList());
+        assertSharedInstances(products.stream().map(Product::type).toList());
+    }
+
+    @Test
+    void repeatedFinancingObjectValuesAreTheSameInstanceAcrossRecords() {
+        List<FinancingObject> financingObjects = new ArrayList<>();
+        RepositoryUtils.stream("classpath:20231210_TestData_FINANCING_OBJECT.json", FinancingObject.class, financingObjects::add);
+
+        assertSharedInstances(financingObjects.stream().map(FinancingObject::status).toList());
+    }
+
+    private static void assertSharedInstances(List<String> values) {
+        Map<String, String> firstInstances = new HashMap<>();
+        for (String value : values) {
+            assertThat(value).isSameAs(firstInstances.computeIfAbsent(value, first -> first));
+        }
+        // otherwise there would be nothing to share
+        assertThat(firstInstances).hasSizeLessThan(values.size());
+    }
+
+}
@@ -0,0 +1,79 @@
+package org.matthiaskarl.techassessment.creditservice.repository;
+
+import org.matthiaskarl.techassessment.creditservice.domain.Limit;
+import org.matthiaskarl.techassessment.creditservice.domain.Product;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Repositories that count the lookups reaching the wrapped repository: {@code calls} per single or bulk lookup
+ * (asynchronous bulk lookups included) and {@code requestedIds} per id asked for.
+ */
+public final class CountingRepositories {
+
+    private CountingRepositories() {
+        throw new UnsupportedOperationException("This utility class is not mean to be instantiated");
+    }
+
+    public static class CountingLimitsRepository implements LimitsRepository {
+
+        public final AtomicInteger calls = new AtomicInteger();
+        public final AtomicInteger requestedIds = new AtomicInteger();
+        private final LimitsRepository delegate;
+
+        public CountingLimitsRepository(LimitsRepository delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Limit findById(long id) {
+            calls.incrementAndGet();
+            requestedIds.incrementAndGet();
+            return delegate.findById(id);
+        }
+
+        @Override
+        public List<Limit> findByIds(long[] ids) {
+            calls.incrementAndGet();
+            requestedIds.addAndGet(ids.length);
+            return delegate.findByIds(ids);
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+    }
+
+    public static class CountingProductsRepository implements ProductsRepository {
+
+        public final AtomicInteger calls = new AtomicInteger();
+        public final AtomicInteger requestedIds = new AtomicInteger();
+        private final ProductsRepository delegate;
+
+        public CountingProductsRepository(ProductsRepository delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Product findById(long id) {
+            calls.incrementAndGet();
+            requestedIds.incrementAndGet();
+            return delegate.findById(id);
+        }
+
+        @Override
+        public List<Product> findByIds(long[] ids) {
+            calls.incrementAndGet();
+            requestedIds.addAndGet(ids.length);
+            return delegate.findByIds(ids);
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package org.matthiaskarl.techassessment.creditservice.repository;
+
+import org.junit.jupiter.api.Test;
+import org.matthiaskarl.techassessment.creditservice.domain.Product;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductsRepositoryTest {
+
+    private static final String PRODUCTS = "classpath:20231214_TestData_PRODUCTS.json";
+
+    @Test
+    void columnarStorageReturnsTheSameProductsAsHeapStorage() {
+        List<Product> products = new ArrayList<>();
+        RepositoryUtils.stream(PRODUCTS, Product.class, products::add);
+
+        ProductsRepository heap = InMemoryProductsRepository.load(PRODUCTS, ProductStorage.HEAP);
+        ProductsRepository columnar = InMemoryProductsRepository.load(PRODUCTS, ProductStorage.COLUMNAR);
+
+        assertThat(columnar.size()).isEqualTo(heap.size()).isEqualTo(products.size());
+        for (Product product : products) {
+            assertThat(columnar.findById(product.id())).isEqualTo(heap.findById(product.id())).isEqualTo(product);
+        }
+        assertThat(columnar.findById(-1)).isNull();
+    }
+
+}
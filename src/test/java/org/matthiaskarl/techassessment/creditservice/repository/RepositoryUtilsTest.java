@@ -0,0 +1,64 @@
+package org.matthiaskarl.techassessment.creditservice.repository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.matthiaskarl.techassessment.creditservice.domain.Owner;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RepositoryUtilsTest {
+
+    private static final String OWNERS = """
+            [{"id": 1, "name": "Anna"}, {"id": 2, "name": "Ben"}]""";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void streamsAFileLocation() throws Exception {
+        Path file = Files.writeString(directory.resolve("owners.json"), OWNERS);
+
+        assertThat(stream("file:" + file)).containsExactly(new Owner(1, "Anna"), new Owner(2, "Ben"));
+    }
+
+    @Test
+    void streamsABareFilesystemPath() throws Exception {
+        Path file = Files.writeString(directory.resolve("owners.json"), OWNERS);
+
+        assertThat(stream(file.toString())).containsExactly(new Owner(1, "Anna"), new Owner(2, "Ben"));
+    }
+
+    @Test
+    void rejectsATopLevelValueOtherThanAnArray() throws Exception {
+        Path file = Files.writeString(directory.resolve("owner.json"), """
+                {"id": 1, "name": "Anna"}""");
+
+        assertThatThrownBy(() -> stream(file.toString()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Expected a JSON array in " + file);
+    }
+
+    @Test
+    void rejectsAnElementThatIsNotAnObject() throws Exception {
+        Path file = Files.writeString(directory.resolve("owners.json"), """
+                [{"id": 1, "name": "Anna"}, 2]""");
+
+        assertThatThrownBy(() -> stream("file:" + file))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Unexpected VALUE_NUMBER_INT in file:" + file);
+    }
+
+    private static List<Owner> stream(String location) {
+        List<Owner> owners = new ArrayList<>();
+        long count = RepositoryUtils.stream(location, Owner.class, owners::add);
+        assertThat(count).isEqualTo(owners.size());
+        return owners;
+    }
+
+}
@@ -0,0 +1,60 @@
+package org.matthiaskarl.techassessment.creditservice.repository.binary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.matthiaskarl.techassessment.creditservice.domain.Product;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositoryUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinarySnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @ParameterizedTest
+    @CsvSource({
+            "20231210_TestData_FINANCING_OBJECT.json, FINANCING_OBJECT",
+            "20231214_TestData_LIMITS.json, LIMITS",
+            "20231214_TestData_PRODUCTS.json, PRODUCTS"
+    })
+    void readsBackWhatTheJsonContains(String resource, BinaryFormat.RecordType recordType) {
+        Path snapshot = directory.resolve(recordType + BinaryFormat.FILE_EXTENSION);
+
+        long written = BinarySnapshotWriter.write("classpath:" + resource, recordType.type(), snapshot);
+
+        List<Object> fromJson = new ArrayList<>();
+        List<Object> fromSnapshot = new ArrayList<>();
+        RepositoryUtils.stream("classpath:" + resource, recordType.type(), fromJson::add);
+        RepositoryUtils.stream(snapshot.toString(), recordType.type(), fromSnapshot::add);
+
+        assertThat(written).isEqualTo(fromJson.size());
+        assertThat(fromSnapshot).isEqualTo(fromJson);
+    }
+
+    @Test
+    void rejectsCorruptedSnapshot() throws Exception {
+        Path snapshot = directory.resolve("products" + BinaryFormat.FILE_EXTENSION);
+        BinarySnapshotWriter.write("classpath:20231214_TestData_PRODUCTS.json", Product.class, snapshot);
+
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{42}), channel.size() - 1);
+        }
+
+        assertThatThrownBy(() -> RepositoryUtils.stream(snapshot.toString(), Product.class, product -> {
+        }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Checksum mismatch");
+    }
+
+}
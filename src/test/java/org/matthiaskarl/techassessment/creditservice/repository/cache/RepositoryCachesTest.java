@@ -0,0 +1,147 @@
+package org.matthiaskarl.techassessment.creditservice.repository.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.matthiaskarl.techassessment.creditservice.domain.Limit;
+import org.matthiaskarl.techassessment.creditservice.domain.Product;
+import org.matthiaskarl.techassessment.creditservice.repository.CountingRepositories.CountingLimitsRepository;
+import org.matthiaskarl.techassessment.creditservice.repository.CountingRepositories.CountingProductsRepository;
+import org.matthiaskarl.techassessment.creditservice.repository.InMemoryFinancingObjectRepository;
+import org.matthiaskarl.techassessment.creditservice.repository.InMemoryLimitsRepository;
+import org.matthiaskarl.techassessment.creditservice.repository.InMemoryProductsRepository;
+import org.matthiaskarl.techassessment.creditservice.repository.ProductStorage;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshot;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RepositoryCachesTest {
+
+    private static final InMemoryFinancingObjectRepository FINANCING_OBJECTS =
+            InMemoryFinancingObjectRepository.load("classpath:20231210_TestData_FINANCING_OBJECT.json");
+    private static final InMemoryLimitsRepository LIMITS =
+            InMemoryLimitsRepository.load("classpath:20231214_TestData_LIMITS.json");
+    private static final InMemoryProductsRepository PRODUCTS =
+            InMemoryProductsRepository.load("classpath:20231214_TestData_PRODUCTS.json", ProductStorage.HEAP);
+
+    private static final RepositoryCacheProperties.CacheSettings SETTINGS =
+            new RepositoryCacheProperties.CacheSettings(1000, Duration.ofMinutes(10));
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RepositoryCaches repositoryCaches =
+            new RepositoryCaches(new RepositoryCacheProperties(true, SETTINGS, SETTINGS, SETTINGS), registry);
+
+    @Test
+    void loadsOnlyTheMissesOfABulkLookupWithOneCall() {
+        CountingLimitsRepository limits = new CountingLimitsRepository(LIMITS);
+        CountingProductsRepository products = new CountingProductsRepository(PRODUCTS);
+        RepositorySnapshot cached = repositoryCaches.wrap(new RepositorySnapshot(FINANCING_OBJECTS, limits, products, null));
+
+        long[] productIds = FINANCING_OBJECTS.findAll().getFirst().products();
+        assertThat(cached.products().findByIds(productIds)).isEqualTo(PRODUCTS.findByIds(productIds));
+        assertThat(cached.products().findByIds(productIds)).isEqualTo(PRODUCTS.findByIds(productIds));
+        assertThat(products.calls.get()).isEqualTo(1);
+
+        long[] withUnknown = {productIds[0], -1};
+        assertThat(cached.products().findByIds(withUnknown)).containsExactly(PRODUCTS.findById(productIds[0]), null);
+        assertThat(products.requestedIds.get()).isEqualTo(productIds.length + 1);
+
+        long limitId = FINANCING_OBJECTS.findAll().getFirst().limit();
+        assertThat(cached.limits().findById(limitId)).isEqualTo(LIMITS.findById(limitId));
+        assertThat(cached.limits().findByIds(new long[]{limitId})).containsExactly(LIMITS.findById(limitId));
+        assertThat(limits.calls.get()).isEqualTo(1);
+
+        assertThat(registry.get("cache.gets").tag("cache", "products").tag("result", "hit").functionCounter().count())
+                .isEqualTo(productIds.length + 1);
+        assertThat(registry.get("cache.gets").tag("cache", "limits").tag("result", "miss").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.find("cache.evictions").tag("cache", "financingObjects").functionCounter()).isNotNull();
+    }
+
+    @Test
+    void concurrentMissesOnTheSameKeyShareOneLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountingLimitsRepository limits = new CountingLimitsRepository(LIMITS) {
+            @Override
+            public Limit findById(long id) {
+                loading.countDown();
+                await(release);
+                return super.findById(id);
+            }
+        };
+        RepositorySnapshot cached = repositoryCaches.wrap(new RepositorySnapshot(FINANCING_OBJECTS, limits, PRODUCTS, null));
+        long limitId = FINANCING_OBJECTS.findAll().getFirst().limit();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Limit> first = executor.submit(() -> cached.limits().findById(limitId));
+            await(loading);
+            Future<Limit> second = executor.submit(() -> cached.limits().findById(limitId));
+            release.countDown();
+
+            assertThat(first.get()).isEqualTo(LIMITS.findById(limitId));
+            assertThat(second.get()).isEqualTo(LIMITS.findById(limitId));
+        }
+        assertThat(limits.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void asynchronousLookupsLoadTheMissesWithoutBlockingTheCaller() {
+        CompletableFuture<List<Product>> query = new CompletableFuture<>();
+        CountingProductsRepository products = new CountingProductsRepository(PRODUCTS) {
+            @Override
+            public CompletableFuture<List<Product>> findByIdsAsync(long[] ids) {
+                calls.incrementAndGet();
+                return query;
+            }
+        };
+        RepositorySnapshot cached = repositoryCaches.wrap(new RepositorySnapshot(FINANCING_OBJECTS, LIMITS, products, null));
+        long[] productIds = FINANCING_OBJECTS.findAll().getFirst().products();
+
+        CompletableFuture<List<Product>> first = cached.products().findByIdsAsync(productIds);
+        CompletableFuture<List<Product>> second = cached.products().findByIdsAsync(productIds);
+        assertThat(first).isNotDone();
+        query.complete(PRODUCTS.findByIds(productIds));
+
+        assertThat(first.join()).isEqualTo(PRODUCTS.findByIds(productIds));
+        assertThat(second.join()).isEqualTo(PRODUCTS.findByIds(productIds));
+        assertThat(cached.products().findByIds(productIds)).isEqualTo(PRODUCTS.findByIds(productIds));
+        assertThat(products.calls.get()).isEqualTo(1);
+
+        long ownerId = FINANCING_OBJECTS.findAll().getFirst().owners().getFirst().id();
+        assertThat(cached.financingObjects().findByOwnerIdAsync(ownerId).join()).isEqualTo(FINANCING_OBJECTS.findByOwnerId(ownerId));
+        assertThat(cached.financingObjects().findByOwnerId(ownerId)).isEqualTo(FINANCING_OBJECTS.findByOwnerId(ownerId));
+        assertThat(registry.get("cache.gets").tag("cache", "financingObjects").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void cachesOwnersWithoutFinancingObjects() {
+        RepositorySnapshot cached = repositoryCaches.wrap(new RepositorySnapshot(FINANCING_OBJECTS, LIMITS, PRODUCTS, null));
+        long ownerId = FINANCING_OBJECTS.findAll().getFirst().owners().getFirst().id();
+
+        assertThat(cached.financingObjects().findByOwnerId(ownerId)).isEqualTo(FINANCING_OBJECTS.findByOwnerId(ownerId));
+        assertThat(cached.financingObjects().findByOwnerId(-1)).isEmpty();
+        assertThat(cached.financingObjects().findByOwnerId(-1)).isEmpty();
+        assertThat(registry.get("cache.gets").tag("cache", "financingObjects").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+package org.matthiaskarl.techassessment.creditservice.repository.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.matthiaskarl.techassessment.creditservice.CreditServiceApplication;
+import org.matthiaskarl.techassessment.creditservice.repository.DataFiles;
+import org.matthiaskarl.techassessment.creditservice.repository.InMemoryFinancingObjectRepository;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshot;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshotHolder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "credit-service.data.backend=jdbc")
+class JdbcBackendStartupTest {
+
+    private static final String URL = "jdbc:h2:mem:jdbc-backend-startup;DB_CLOSE_DELAY=-1";
+    private static final DataFiles FILES = new DataFiles(
+            "classpath:20231210_TestData_FINANCING_OBJECT.json",
+            "classpath:20231214_TestData_LIMITS.json",
+            "classpath:20231214_TestData_PRODUCTS.json"
+    );
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    RepositorySnapshotHolder repositorySnapshotHolder;
+
+    // runs before the application context is created, so the service starts on an imported database
+    @DynamicPropertySource
+    static void importDatabase(DynamicPropertyRegistry registry) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL)) {
+            JdbcImporter.importFiles(connection, FILES);
+        }
+        registry.add("spring.datasource.url", () -> URL);
+    }
+
+    @Test
+    void servesTheImportedDatabaseAtTheConfiguredUrl() {
+        assertThat(dataSource).isInstanceOf(HikariDataSource.class);
+        assertThat(((HikariDataSource) dataSource).getJdbcUrl()).isEqualTo(URL);
+
+        RepositorySnapshot repositories = repositorySnapshotHolder.current();
+        assertThat(repositories.financingObjects().size())
+                .isEqualTo(InMemoryFinancingObjectRepository.load(FILES.financingObjects()).size());
+        assertThat(repositories.financingObjects().findByOwnerId(11110039)).isNotEmpty();
+    }
+
+    @Test
+    void refusesToStartWithoutADatasourceUrl() {
+        SpringApplicationBuilder application = new SpringApplicationBuilder(CreditServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("credit-service.data.backend=jdbc");
+
+        assertThatThrownBy(application::run)
+                .hasStackTraceContaining("credit-service.data.backend=jdbc requires spring.datasource.url");
+    }
+
+    @Test
+    void startsNoDatabaseForTheInMemoryBackend() {
+        SpringApplicationBuilder application = new SpringApplicationBuilder(CreditServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("credit-service.data.backend=in-memory");
+
+        try (ConfigurableApplicationContext context = application.run()) {
+            assertThat(context.getBeanNamesForType(DataSource.class)).isEmpty();
+        }
+    }
+
+}
@@ -0,0 +1,129 @@
+package org.matthiaskarl.techassessment.creditservice.repository.jdbc;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
+import org.matthiaskarl.techassessment.creditservice.domain.Owner;
+import org.matthiaskarl.techassessment.creditservice.repository.DataFiles;
+import org.matthiaskarl.techassessment.creditservice.repository.InMemoryFinancingObjectRepository;
+import org.matthiaskarl.techassessment.creditservice.repository.InMemoryLimitsRepository;
+import org.matthiaskarl.techassessment.creditservice.repository.InMemoryProductsRepository;
+import org.matthiaskarl.techassessment.creditservice.repository.ProductStorage;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshot;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JdbcRepositoriesTest {
+
+    private static final String URL = "jdbc:h2:mem:jdbc-repositories;DB_CLOSE_DELAY=-1";
+    private static final String REIMPORT_URL = "jdbc:h2:mem:jdbc-reimport;DB_CLOSE_DELAY=-1";
+    private static final DataFiles FILES = new DataFiles(
+            "classpath:20231210_TestData_FINANCING_OBJECT.json",
+            "classpath:20231214_TestData_LIMITS.json",
+            "classpath:20231214_TestData_PRODUCTS.json"
+    );
+
+    private static InMemoryFinancingObjectRepository financingObjects;
+    private static InMemoryLimitsRepository limits;
+    private static InMemoryProductsRepository products;
+    private static RepositorySnapshot jdbc;
+
+    @BeforeAll
+    static void importData() throws Exception {
+        try (Connection connection = DriverManager.getConnection(URL)) {
+            JdbcImporter.importFiles(connection, FILES);
+        }
+        financingObjects = InMemoryFinancingObjectRepository.load(FILES.financingObjects());
+        limits = InMemoryLimitsRepository.load(FILES.limits());
+        products = InMemoryProductsRepository.load(FILES.products(), ProductStorage.HEAP);
+        jdbc = JdbcRepositories.open(new JdbcTemplate(new DriverManagerDataSource(URL)));
+    }
+
+    @Test
+    void findsTheSameFinancingObjectsByOwnerAsTheInMemoryBackend() {
+        assertThat(jdbc.financingObjects().size()).isEqualTo(financingObjects.size());
+        for (FinancingObject financingObject : financingObjects.findAll()) {
+            for (Owner owner : financingObject.owners()) {
+                assertThat(jdbc.financingObjects().findByOwnerId(owner.id()))
+                        .isEqualTo(financingObjects.findByOwnerId(owner.id()));
+            }
+        }
+        assertThat(jdbc.financingObjects().findByOwnerId(-1)).isEmpty();
+
+        List<FinancingObject> all = new ArrayList<>();
+        jdbc.financingObjects().forEach(all::add);
+        assertThat(all).isEqualTo(financingObjects.findAll());
+    }
+
+    @Test
+    void groupsTheSameFinancingObjectsByOwnerAsTheInMemoryBackend() {
+        Map<Long, List<FinancingObject>> expected = new HashMap<>();
+        financingObjects.forEachOwner(expected::put);
+        Map<Long, List<FinancingObject>> actual = new HashMap<>();
+        jdbc.financingObjects().forEachOwner((ownerId, owned) ->
+                assertThat(actual.put(ownerId, owned)).as("owner %d seen once", ownerId).isNull());
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void findsTheSameLimitsAndProductsAsTheInMemoryBackend() {
+        assertThat(jdbc.limits().size()).isEqualTo(limits.size());
+        assertThat(jdbc.products().size()).isEqualTo(products.size());
+        for (FinancingObject financingObject : financingObjects.findAll()) {
+            assertThat(jdbc.limits().findById(financingObject.limit())).isEqualTo(limits.findById(financingObject.limit()));
+            assertThat(jdbc.products().findByIds(financingObject.products())).isEqualTo(products.findByIds(financingObject.products()));
+        }
+        assertThat(jdbc.limits().findById(-1)).isNull();
+        assertThat(jdbc.products().findByIds(new long[]{-1})).hasSize(1).containsOnlyNulls();
+    }
+
+    @Test
+    void answersTheAsynchronousLookupsLikeTheSynchronousOnes() {
+        for (FinancingObject financingObject : financingObjects.findAll()) {
+            long ownerId = financingObject.owners().getFirst().id();
+            assertThat(jdbc.financingObjects().findByOwnerIdAsync(ownerId).join())
+                    .isEqualTo(financingObjects.findByOwnerId(ownerId));
+            assertThat(jdbc.limits().findByIdsAsync(new long[]{financingObject.limit(), -1}).join())
+                    .containsExactly(limits.findById(financingObject.limit()), null);
+            assertThat(jdbc.products().findByIdsAsync(financingObject.products()).join())
+                    .isEqualTo(products.findByIds(financingObject.products()));
+        }
+        assertThat(jdbc.financingObjects().findByOwnerIdAsync(-1).join()).isEmpty();
+    }
+
+    @Test
+    void aFailedImportKeepsServingThePreviousImport() throws Exception {
+        DataFiles missingProducts = new DataFiles(FILES.financingObjects(), FILES.limits(), "classpath:missing-products.json");
+        try (Connection connection = DriverManager.getConnection(REIMPORT_URL)) {
+            JdbcImporter.importFiles(connection, FILES);
+            assertThatThrownBy(() -> JdbcImporter.importFiles(connection, missingProducts))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+        RepositorySnapshot previous = JdbcRepositories.open(new JdbcTemplate(new DriverManagerDataSource(REIMPORT_URL)));
+        assertThat(previous.products().size()).isEqualTo(products.size());
+
+        try (Connection connection = DriverManager.getConnection(REIMPORT_URL)) {
+            JdbcImporter.importFiles(connection, FILES);
+        }
+        RepositorySnapshot reimported = JdbcRepositories.open(new JdbcTemplate(new DriverManagerDataSource(REIMPORT_URL)));
+        assertThat(reimported.financingObjects().size()).isEqualTo(financingObjects.size());
+    }
+
+    @Test
+    void refusesADatabaseWithoutACompletedImport() {
+        assertThatThrownBy(() -> JdbcRepositories.open(new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:jdbc-empty"))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("run the DatabaseImporter first");
+    }
+
+}
@@ -0,0 +1,40 @@
+package org.matthiaskarl.techassessment.creditservice.service;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.matthiaskarl.techassessment.creditservice.dto.LoanDto;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshot;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshotHolder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "credit-service.loans.materialized-view=true")
+class LoanMaterializedViewTest {
+
+    @Autowired
+    LoanMaterializedView materializedView;
+
+    @Autowired
+    RepositorySnapshotHolder repositorySnapshotHolder;
+
+    @Autowired
+    LoanAssembler loanAssembler;
+
+    @ParameterizedTest
+    @MethodSource("org.matthiaskarl.techassessment.creditservice.ContractTestUtil#getUserIds")
+    void viewMatchesFreshlyAssembledLoans(String userId) {
+        long parsedUserId = Long.parseLong(userId);
+        RepositorySnapshot repositories = repositorySnapshotHolder.current();
+        List<LoanDto> expected = new ArrayList<>();
+        repositories.financingObjects().findByOwnerId(parsedUserId)
+                .forEach(financingObject -> loanAssembler.assemble(repositories, financingObject, expected));
+
+        assertThat(materializedView.findByUserId(parsedUserId)).isEqualTo(expected);
+    }
+
+}
@@ -0,0 +1,109 @@
+package org.matthiaskarl.techassessment.creditservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.matthiaskarl.techassessment.creditservice.dto.LoanDto;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoanRequestCoalescerTest {
+
+    private static final long USER_ID = 11110001;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger computations = new AtomicInteger();
+
+    @Test
+    void concurrentCallersShareTheRunningComputation() throws Exception {
+        LoanRequestCoalescer coalescer = coalescer(Duration.ZERO);
+        CountDownLatch computing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<List<LoanDto>> first = executor.submit(() -> coalescer.getLoansByUserId(USER_ID, userId -> {
+                computing.countDown();
+                await(release);
+                return compute(userId);
+            }));
+            await(computing);
+            List<Future<List<LoanDto>>> joined = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                joined.add(executor.submit(() -> coalescer.getLoansByUserId(USER_ID, this::compute)));
+            }
+            while (collapsed("running") < joined.size()) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            for (Future<List<LoanDto>> call : joined) {
+                assertThat(call.get()).isSameAs(first.get());
+            }
+        }
+        assertThat(computations.get()).isEqualTo(1);
+
+        coalescer.getLoansByUserId(USER_ID, this::compute);
+        assertThat(computations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void keepsTheFinishedResultForTheWindow() {
+        LoanRequestCoalescer coalescer = coalescer(Duration.ofMinutes(1));
+
+        List<LoanDto> loans = coalescer.getLoansByUserId(USER_ID, this::compute);
+        assertThat(coalescer.getLoansByUserId(USER_ID, this::compute)).isSameAs(loans);
+        assertThat(coalescer.getLoansByUserId(USER_ID + 1, this::compute)).isNotSameAs(loans);
+        assertThat(computations.get()).isEqualTo(2);
+        assertThat(collapsed("finished")).isEqualTo(1);
+
+        coalescer.invalidateAll();
+        assertThat(coalescer.getLoansByUserId(USER_ID, this::compute)).isNotSameAs(loans);
+        assertThat(computations.get()).isEqualTo(3);
+    }
+
+    @Test
+    void doesNotKeepFailures() {
+        LoanRequestCoalescer coalescer = coalescer(Duration.ofMinutes(1));
+
+        assertThatThrownBy(() -> coalescer.getLoansByUserId(USER_ID, userId -> {
+            throw new IllegalStateException("Unknown limit");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(coalescer.getLoansByUserId(USER_ID, this::compute)).hasSize(1);
+        assertThat(computations.get()).isEqualTo(1);
+    }
+
+    private LoanRequestCoalescer coalescer(Duration window) {
+        return new LoanRequestCoalescer(new CoalescingProperties(true, window), registry);
+    }
+
+    private List<LoanDto> compute(long userId) {
+        computations.incrementAndGet();
+        List<LoanDto> loans = new ArrayList<>();
+        loans.add(LoanDto.builder().build());
+        return loans;
+    }
+
+    private double collapsed(String computation) {
+        return registry.get("loans.coalesced").tag("computation", computation).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
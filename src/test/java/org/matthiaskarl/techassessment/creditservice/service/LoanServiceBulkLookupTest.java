@@ -0,0 +1,162 @@
+package org.matthiaskarl.techassessment.creditservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
+import org.matthiaskarl.techassessment.creditservice.dto.LoanDto;
+import org.matthiaskarl.techassessment.creditservice.mapping.AnnualFrequencyMapper;
+import org.matthiaskarl.techassessment.creditservice.mapping.ChildLoanMapper;
+import org.matthiaskarl.techassessment.creditservice.mapping.CollateralCache;
+import org.matthiaskarl.techassessment.creditservice.mapping.ParentLoanMapper;
+import org.matthiaskarl.techassessment.creditservice.repository.CountingRepositories.CountingLimitsRepository;
+import org.matthiaskarl.techassessment.creditservice.repository.CountingRepositories.CountingProductsRepository;
+import org.matthiaskarl.techassessment.creditservice.repository.FinancingObjectRepository;
+import org.matthiaskarl.techassessment.creditservice.repository.InMemoryFinancingObjectRepository;
+import org.matthiaskarl.techassessment.creditservice.repository.InMemoryLimitsRepository;
+import org.matthiaskarl.techassessment.creditservice.repository.InMemoryProductsRepository;
+import org.matthiaskarl.techassessment.creditservice.repository.ProductStorage;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshot;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshotHolder;
+import org.matthiaskarl.techassessment.creditservice.util.LongObjectHashMap;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoanServiceBulkLookupTest {
+
+    private static final InMemoryFinancingObjectRepository FINANCING_OBJECTS =
+            InMemoryFinancingObjectRepository.load("classpath:20231210_TestData_FINANCING_OBJECT.json");
+    private static final RepositorySnapshot REPOSITORIES = new RepositorySnapshot(
+            FINANCING_OBJECTS,
+            InMemoryLimitsRepository.load("classpath:20231214_TestData_LIMITS.json"),
+            InMemoryProductsRepository.load("classpath:20231214_TestData_PRODUCTS.json", ProductStorage.HEAP),
+            null
+    );
+
+    private final CountingLimitsRepository limits = new CountingLimitsRepository(REPOSITORIES.limits());
+    private final CountingProductsRepository products = new CountingProductsRepository(REPOSITORIES.products());
+    private final LoanAssembler loanAssembler = loanAssembler();
+
+    @ParameterizedTest
+    @MethodSource("org.matthiaskarl.techassessment.creditservice.ContractTestUtil#getUserIds")
+    void looksUpLimitsAndProductsWithOneCallPerRepository(String userId) {
+        long parsedUserId = Long.parseLong(userId);
+        List<FinancingObject> financingObjects = FINANCING_OBJECTS.findByOwnerId(parsedUserId);
+
+        assertThat(loanService(FINANCING_OBJECTS).getLoansByUserId(parsedUserId)).isEqualTo(expectedLoans(financingObjects));
+        int expectedCalls = financingObjects.isEmpty() ? 0 : 1;
+        assertThat(limits.calls.get()).isEqualTo(expectedCalls);
+        assertThat(products.calls.get()).isEqualTo(expectedCalls);
+    }
+
+    @ParameterizedTest
+    @MethodSource("org.matthiaskarl.techassessment.creditservice.ContractTestUtil#getUserIds")
+    void reactiveLookupUsesOneCallPerRepository(String userId) {
+        long parsedUserId = Long.parseLong(userId);
+        List<FinancingObject> financingObjects = FINANCING_OBJECTS.findByOwnerId(parsedUserId);
+        ReactiveLoanService reactiveLoanService = new ReactiveLoanService(snapshotHolder(FINANCING_OBJECTS), loanAssembler, Optional.empty());
+
+        assertThat(reactiveLoanService.getLoansByUserId(parsedUserId).collectList().block()).isEqualTo(expectedLoans(financingObjects));
+        int expectedCalls = financingObjects.isEmpty() ? 0 : 1;
+        assertThat(limits.calls.get()).isEqualTo(expectedCalls);
+        assertThat(products.calls.get()).isEqualTo(expectedCalls);
+    }
+
+    @Test
+    void looksUpTheLoansOfAllRequestedUsersWithOneCallPerRepository() {
+        List<Long> userIds = new ArrayList<>();
+        FINANCING_OBJECTS.findAll().forEach(financingObject -> financingObject.owners().forEach(owner -> userIds.add(owner.id())));
+        userIds.add(-1L);
+        Map<Long, List<LoanDto>> expected = new LinkedHashMap<>();
+        userIds.forEach(userId -> expected.computeIfAbsent(userId, id -> expectedLoans(FINANCING_OBJECTS.findByOwnerId(id))));
+
+        assertThat(loanService(FINANCING_OBJECTS).getLoansByUserIds(userIds)).containsExactlyEntriesOf(expected);
+        assertThat(limits.calls.get()).isEqualTo(1);
+        assertThat(products.calls.get()).isEqualTo(1);
+        assertThat(limits.requestedIds.get()).isEqualTo(FINANCING_OBJECTS.size());
+    }
+
+    @Test
+    void exportLooksUpLimitsAndProductsOncePerBatchOfAThousandFinancingObjects() {
+        List<FinancingObject> portfolio = new ArrayList<>();
+        for (int copy = 0; copy < 50; copy++) {
+            portfolio.addAll(FINANCING_OBJECTS.findAll());
+        }
+        List<LoanDto> exported = new ArrayList<>();
+
+        loanService(new ListFinancingObjectRepository(portfolio)).forEachLoan(loan -> true, exported::add);
+
+        assertThat(portfolio).hasSize(2500);
+        assertThat(exported).isEqualTo(expectedLoans(portfolio));
+        assertThat(limits.calls.get()).isEqualTo(3);
+        assertThat(products.calls.get()).isEqualTo(3);
+        assertThat(limits.requestedIds.get()).isEqualTo(portfolio.size());
+    }
+
+    private List<LoanDto> expectedLoans(List<FinancingObject> financingObjects) {
+        List<LoanDto> expected = new ArrayList<>();
+        financingObjects.forEach(financingObject -> loanAssembler.assemble(REPOSITORIES, financingObject, expected));
+        return expected;
+    }
+
+    private LoanService loanService(FinancingObjectRepository financingObjects) {
+        return new LoanService(
+                snapshotHolder(financingObjects),
+                loanAssembler,
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                new LoanMetrics(new SimpleMeterRegistry())
+        );
+    }
+
+    private RepositorySnapshotHolder snapshotHolder(FinancingObjectRepository financingObjects) {
+        return new RepositorySnapshotHolder(
+                new RepositorySnapshot(financingObjects, limits, products, null),
+                event -> {
+                }
+        );
+    }
+
+    private static LoanAssembler loanAssembler() {
+        CollateralCache collateralCache = new CollateralCache();
+        return new LoanAssembler(
+                new ParentLoanMapper(collateralCache),
+                new ChildLoanMapper(new AnnualFrequencyMapper(), collateralCache),
+                new LoanMetrics(new SimpleMeterRegistry())
+        );
+    }
+
+    // a portfolio larger than the bundled test data, only iterated by the export
+    private record ListFinancingObjectRepository(List<FinancingObject> all) implements FinancingObjectRepository {
+
+        @Override
+        public List<FinancingObject> findByOwnerId(long ownerId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void forEach(Consumer<? super FinancingObject> action) {
+            all.forEach(action);
+        }
+
+        @Override
+        public void forEachOwner(LongObjectHashMap.LongObjectConsumer<List<FinancingObject>> action) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int size() {
+            return all.size();
+        }
+    }
+
+}
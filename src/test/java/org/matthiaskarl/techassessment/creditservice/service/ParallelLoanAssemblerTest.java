@@ -0,0 +1,50 @@
+package org.matthiaskarl.techassessment.creditservice.service;
+
+import org.junit.jupiter.api.Test;
+import org.matthiaskarl.techassessment.creditservice.domain.FinancingObject;
+import org.matthiaskarl.techassessment.creditservice.dto.LoanDto;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshot;
+import org.matthiaskarl.techassessment.creditservice.repository.RepositorySnapshotHolder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "credit-service.loans.parallel-mapping=true")
+class ParallelLoanAssemblerTest {
+
+    @Autowired
+    ParallelLoanAssembler parallelLoanAssembler;
+
+    @Autowired
+    RepositorySnapshotHolder repositorySnapshotHolder;
+
+    @Autowired
+    LoanAssembler loanAssembler;
+
+    @Test
+    void keepsTheOrderOfSequentialMapping() {
+        RepositorySnapshot repositories = repositorySnapshotHolder.current();
+        List<FinancingObject> financingObjects = new ArrayList<>();
+        repositories.financingObjects().forEach(financingObjects::add);
+        List<LoanDto> expected = new ArrayList<>();
+        financingObjects.forEach(financingObject -> loanAssembler.assemble(repositories, financingObject, expected));
+
+        assertThat(parallelLoanAssembler.assemble(repositories, financingObjects)).isEqualTo(expected);
+    }
+
+    @Test
+    void rethrowsTheFailureOfASubtask() {
+        RepositorySnapshot repositories = repositorySnapshotHolder.current();
+        FinancingObject dangling = new FinancingObject(1, List.of(), -1, new long[0], "active");
+        List<FinancingObject> financingObjects = List.of(repositories.financingObjects().findByOwnerId(11110039).getFirst(), dangling);
+
+        assertThatThrownBy(() -> parallelLoanAssembler.assemble(repositories, financingObjects))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+}
@@ -0,0 +1,41 @@
+package org.matthiaskarl.techassessment.creditservice.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EpochDaysTest {
+
+    @Test
+    void formatsExactlyLikeIsoDate() {
+        long first = LocalDate.of(-1, 12, 25).toEpochDay();
+        long last = LocalDate.of(10000, 1, 5).toEpochDay();
+        for (long epochDay = first; epochDay <= last; epochDay++) {
+            String isoDate = LocalDate.ofEpochDay(epochDay).format(DateTimeFormatter.ISO_DATE);
+            assertThat(EpochDays.formatIsoDate((int) epochDay)).isEqualTo(isoDate);
+            assertThat(EpochDays.formatIsoDateTime((int) epochDay)).isEqualTo(isoDate + "T00:00:00.000Z");
+        }
+    }
+
+    @Test
+    void parsesSourceDatesLikeTheSourceFormatter() {
+        assertThat(EpochDays.parseSource("14.04.2019")).isEqualTo(LocalDate.of(2019, 4, 14).toEpochDay());
+        // the smart resolver moves an invalid day of month to the last day of the month
+        assertThat(EpochDays.parseSource("31.06.2028")).isEqualTo(LocalDate.of(2028, 6, 30).toEpochDay());
+        assertThat(EpochDays.formatSource(EpochDays.parseSource("01.11.2020"))).isEqualTo("01.11.2020");
+    }
+
+    @Test
+    void treatsBlankDatesAsNone() {
+        assertThat(EpochDays.parseSource(null)).isEqualTo(EpochDays.NONE);
+        assertThat(EpochDays.parseSource("")).isEqualTo(EpochDays.NONE);
+        assertThat(EpochDays.parseSource("  ")).isEqualTo(EpochDays.NONE);
+        assertThat(EpochDays.formatIsoDate(EpochDays.NONE)).isEmpty();
+        assertThat(EpochDays.formatIsoDateTime(EpochDays.NONE)).isEmpty();
+        assertThat(EpochDays.formatSource(EpochDays.NONE)).isEmpty();
+    }
+
+}
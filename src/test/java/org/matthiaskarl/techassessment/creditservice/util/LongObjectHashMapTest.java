@@ -0,0 +1,51 @@
+package org.matthiaskarl.techassessment.creditservice.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongObjectHashMapTest {
+
+    @Test
+    void behavesLikeHashMapAcrossResizes() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+        Map<Long, String> reference = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(50_000) - 25_000;
+            assertThat(map.put(key, "v" + i)).isEqualTo(reference.put(key, "v" + i));
+        }
+
+        assertThat(map.size()).isEqualTo(reference.size());
+        reference.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+        assertThat(map.get(1_000_000L)).isNull();
+        assertThat(map.containsKey(1_000_000L)).isFalse();
+    }
+
+    @Test
+    void supportsZeroKey() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+        assertThat(map.get(0L)).isNull();
+        map.put(0L, "zero");
+
+        assertThat(map.get(0L)).isEqualTo("zero");
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void computeIfAbsentOnlyCreatesOnce() {
+        LongObjectHashMap<StringBuilder> map = new LongObjectHashMap<>();
+
+        map.computeIfAbsent(7L, key -> new StringBuilder()).append("a");
+        map.computeIfAbsent(7L, key -> new StringBuilder()).append("b");
+
+        assertThat(map.get(7L)).hasToString("ab");
+    }
+
+}
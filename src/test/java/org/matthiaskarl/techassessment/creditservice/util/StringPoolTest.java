@@ -0,0 +1,46 @@
+package org.matthiaskarl.techassessment.creditservice.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StringPoolTest {
+
+    @Test
+    void returnsThePooledInstanceForEqualValues() {
+        StringPool pool = new StringPool(16, 64);
+        String first = pool.canonicalize(new String("CHF"));
+
+        assertThat(pool.canonicalize(new String("CHF"))).isSameAs(first);
+        char[] chars = "xxCHFxx".toCharArray();
+        assertThat(pool.canonicalize(chars, 2, 3)).isSameAs(first);
+    }
+
+    @Test
+    void replacesTheOccupantOfASlotInsteadOfGrowing() {
+        StringPool pool = new StringPool(1, 64);
+        String chf = pool.canonicalize(new String("CHF"));
+        String eur = pool.canonicalize(new String("EUR"));
+
+        assertThat(pool.capacity()).isEqualTo(1);
+        assertThat(pool.canonicalize(new String("EUR"))).isSameAs(eur);
+        assertThat(pool.canonicalize(new String("CHF"))).isEqualTo(chf).isNotSameAs(chf);
+    }
+
+    @Test
+    void leavesLongValuesAndNullAlone() {
+        StringPool pool = new StringPool(16, 4);
+        String longValue = new String("Bahnhofstrasse 1");
+
+        assertThat(pool.canonicalize(longValue)).isSameAs(longValue);
+        assertThat(pool.canonicalize(new String("Bahnhofstrasse 1"))).isNotSameAs(longValue);
+        assertThat(pool.canonicalize(null)).isNull();
+    }
+
+    @Test
+    void roundsTheCapacityUpToAPowerOfTwo() {
+        assertThat(new StringPool(1000, 64).capacity()).isEqualTo(1024);
+        assertThat(new StringPool(1024, 64).capacity()).isEqualTo(1024);
+    }
+
+}